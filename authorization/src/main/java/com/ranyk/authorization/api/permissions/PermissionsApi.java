@@ -10,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * CLASS_NAME: PermissionsApi.java
@@ -155,6 +156,17 @@ public class PermissionsApi {
         return R.ok(BeanUtil.copyToList(permissionsService.getCurrentUserOfPermissions(), PermissionsVO.class));
     }
 
+    /**
+     * 批量判断当前登录用户是否拥有指定的权限, 用于前端一次性判断页面中的按钮是否显示
+     *
+     * @param permissionsDTO 批量判断参数封装对象, 使用 {@link PermissionsDTO#getCodes()} 和 {@link PermissionsDTO#getCodePrefix()} 属性
+     * @return 权限代码 -> 是否拥有 的 Map 集合
+     */
+    @PostMapping("/check")
+    public R<Map<String, Boolean>> checkCurrentUserPermissions(@RequestBody PermissionsDTO permissionsDTO) {
+        return R.ok(permissionsService.checkCurrentUserPermissions(permissionsDTO));
+    }
+
     /**
      * 为权限分配角色
      *
@@ -1,7 +1,13 @@
 package com.ranyk.authorization.config;
 
 import cn.dev33.satoken.config.SaTokenConfig;
+import cn.dev33.satoken.dao.SaTokenDao;
 import com.ranyk.authorization.config.properties.AuthorizationConfigurationProperties;
+import com.ranyk.cache.bus.InvalidationBus;
+import com.ranyk.cache.config.properties.CacheConfigurationProperties;
+import com.ranyk.cache.dao.RedisSaTokenDao;
+import com.ranyk.cache.dao.TimingWheelSaTokenDao;
+import com.ranyk.cache.dao.WriteBehindSaTokenDao;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -9,6 +15,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.RedisTemplate;
 
 /**
  * CLASS_NAME: AuthorizationConfiguration.java
@@ -64,4 +71,45 @@ public class AuthorizationConfiguration {
                 // 是否输出操作日志
                 .setIsLog(authorizationConfigurationProperties.getIsLog());
     }
+
+    /**
+     * 创建基于分层时间轮的进程内 SA-TOKEN 持久层对象, 未启用 Redis 时替换 SA-TOKEN 默认的定时全量扫描实现
+     *
+     * @return SA-TOKEN 持久层对象 {@link SaTokenDao}
+     */
+    @Bean
+    @ConditionalOnProperty(name = "cache.redis-enabled", havingValue = "false", matchIfMissing = true)
+    public SaTokenDao saTokenDao() {
+        return withActivityWriteBehind(new TimingWheelSaTokenDao());
+    }
+
+    /**
+     * 创建基于 Redis 的 SA-TOKEN 持久层对象, 启用 Redis 时使用, 会话在所有节点之间共享, token 校验前置本地近端缓存
+     *
+     * @param redisTemplate                Redis 缓存模板对象
+     * @param invalidationBus              缓存失效消息总线对象
+     * @param cacheConfigurationProperties 缓存配置属性对象
+     * @return SA-TOKEN 持久层对象 {@link SaTokenDao}
+     */
+    @Bean("saTokenDao")
+    @ConditionalOnProperty(name = "cache.redis-enabled", havingValue = "true", matchIfMissing = false)
+    public SaTokenDao redisSaTokenDao(RedisTemplate<String, Object> redisTemplate,
+                                      InvalidationBus invalidationBus,
+                                      CacheConfigurationProperties cacheConfigurationProperties) {
+        log.info("Redis SaTokenDao is enabled. token near cache ttl: {}s", cacheConfigurationProperties.getTokenNearCacheTtl());
+        return withActivityWriteBehind(new RedisSaTokenDao(redisTemplate, invalidationBus, cacheConfigurationProperties.getTokenNearCacheTtl(), cacheConfigurationProperties.getTokenNearCacheMaxSize()));
+    }
+
+    /**
+     * 开启 token 最低活跃频率且配置了批量写入间隔时, 为持久层对象装饰 token 最后活跃时间延迟批量写入
+     *
+     * @param saTokenDao 持久层对象
+     * @return 装饰后的持久层对象, 无需装饰时返回原对象
+     */
+    private SaTokenDao withActivityWriteBehind(SaTokenDao saTokenDao) {
+        if (authorizationConfigurationProperties.getActivityTimeout() <= 0 || authorizationConfigurationProperties.getActivityFlushInterval() <= 0) {
+            return saTokenDao;
+        }
+        return new WriteBehindSaTokenDao(saTokenDao, authorizationConfigurationProperties.getActivityFlushInterval());
+    }
 }
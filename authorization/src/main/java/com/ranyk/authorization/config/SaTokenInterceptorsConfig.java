@@ -1,14 +1,24 @@
 package com.ranyk.authorization.config;
 
+import cn.dev33.satoken.context.SaHolder;
 import cn.dev33.satoken.exception.NotLoginException;
 import cn.dev33.satoken.interceptor.SaInterceptor;
-import cn.dev33.satoken.router.SaRouter;
 import cn.dev33.satoken.stp.StpUtil;
+import com.ranyk.authorization.config.route.RouteSecurityRule;
+import com.ranyk.authorization.config.route.RouteSecurityRuleProvider;
+import com.ranyk.authorization.config.route.RouteSecurityTable;
+import com.ranyk.common.constant.RouteAccessEnum;
 import com.ranyk.model.exception.user.UserException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 /**
  * CLASS_NAME: SaTokenInterptorcsConfig.java
  *
@@ -17,9 +27,40 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
  * @description: sa-token 拦截器配置类
  * @date: 2025-12-18
  */
+@Slf4j
 @Configuration
 public class SaTokenInterceptorsConfig implements WebMvcConfigurer {
 
+    /**
+     * 路由鉴权规则提供对象, 包含所有模块声明的规则
+     */
+    private final ObjectProvider<RouteSecurityRuleProvider> routeSecurityRuleProviders;
+
+    /**
+     * 构造方法
+     *
+     * @param routeSecurityRuleProviders 路由鉴权规则提供对象
+     */
+    @Autowired
+    public SaTokenInterceptorsConfig(ObjectProvider<RouteSecurityRuleProvider> routeSecurityRuleProviders) {
+        this.routeSecurityRuleProviders = routeSecurityRuleProviders;
+    }
+
+    /**
+     * 授权模块的路由鉴权规则: 登录接口、静态资源接口、图标接口无需登录, 其余接口必须先登录
+     *
+     * @return 路由鉴权规则提供对象 {@link RouteSecurityRuleProvider}
+     */
+    @Bean
+    public RouteSecurityRuleProvider authorizationRouteSecurityRules() {
+        return () -> List.of(
+                RouteSecurityRule.builder().pathPrefix("/").access(RouteAccessEnum.LOGIN).build(),
+                RouteSecurityRule.builder().pathPrefix("/login").access(RouteAccessEnum.ANONYMOUS).exact(true).build(),
+                RouteSecurityRule.builder().pathPrefix("/static").access(RouteAccessEnum.ANONYMOUS).build(),
+                RouteSecurityRule.builder().pathPrefix("/favicon.ico").access(RouteAccessEnum.ANONYMOUS).build()
+        );
+    }
+
     /**
      * 注册Sa-Token拦截器，配置路由鉴权规则
      *
@@ -27,22 +68,40 @@ public class SaTokenInterceptorsConfig implements WebMvcConfigurer {
      */
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        // 注册拦截器并配置鉴权逻辑
-        registry.addInterceptor(new SaInterceptor(handle -> {
-                    // 1. 所有未放行的接口，必须先登录
-                    SaRouter.match("/**")
-                            // 未登录会抛出 NotLoginException
-                            .check(r -> {
-                                try {
-                                    StpUtil.checkLogin();
-                                } catch (NotLoginException e) {
-                                    throw new UserException("user.not.login");
-                                }
-                            });
-                }))
-                // 拦截所有请求路径
-                .addPathPatterns("/**")
-                // 忽略所有无需鉴权的接口 登录接口、静态资源接口、图标接口
-                .excludePathPatterns("/login", "/static/**", "/favicon.ico");
+        // 1. 收集所有模块的路由鉴权规则, 编译为路由鉴权表
+        List<RouteSecurityRule> rules = routeSecurityRuleProviders.orderedStream().flatMap(provider -> provider.routeSecurityRules().stream()).toList();
+        RouteSecurityTable routeSecurityTable = new RouteSecurityTable(rules);
+        log.info("Route security table compiled. rule count: {}", rules.size());
+        // 2. 注册拦截器, 每次请求只查找一次路由鉴权表, 再按规则鉴权
+        registry.addInterceptor(new SaInterceptor(handle -> checkRoute(routeSecurityTable.match(SaHolder.getRequest().getRequestPath()))))
+                // 拦截所有请求路径, 无需鉴权的接口由路由鉴权表中的无需登录规则放行
+                .addPathPatterns("/**");
+    }
+
+    /**
+     * 按路由鉴权规则对当前请求进行鉴权
+     *
+     * @param rule 当前请求路径适用的路由鉴权规则
+     */
+    private void checkRoute(RouteSecurityRule rule) {
+        // 1. 无需登录的接口直接放行
+        if (rule.getAccess() == RouteAccessEnum.ANONYMOUS) {
+            return;
+        }
+        // 2. 其余接口必须先登录, 未登录会抛出 NotLoginException
+        try {
+            StpUtil.checkLogin();
+        } catch (NotLoginException e) {
+            throw new UserException("user.not.login");
+        }
+        // 3. 需要角色或权限的接口, 校验当前登录账户是否拥有
+        boolean granted = switch (rule.getAccess()) {
+            case ROLE -> StpUtil.hasRole(rule.getCode());
+            case PERMISSION -> StpUtil.hasPermission(rule.getCode());
+            default -> true;
+        };
+        if (!granted) {
+            throw new UserException("no.permission", rule.getCode());
+        }
     }
 }
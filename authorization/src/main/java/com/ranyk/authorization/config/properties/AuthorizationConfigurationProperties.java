@@ -6,6 +6,8 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -49,7 +51,66 @@ public class AuthorizationConfigurationProperties implements InitializingBean {
      * 是否输出操作日志
      */
     private Boolean isLog;
-
+    /**
+     * 是否启用账户授权信息(权限代码、角色代码)缓存, 默认 true
+     */
+    private Boolean permissionCacheEnabled;
+    /**
+     * 账户授权信息缓存最大缓存账户数, 默认 10000
+     */
+    private Integer permissionCacheMaxSize;
+    /**
+     * 账户授权信息缓存有效期（单位：秒）, 写入后超过该时间自动失效, 默认 1800 秒
+     */
+    private Long permissionCacheTimeout;
+    /**
+     * 是否在启动时预加载全部有效账户的授权信息快照, 权限判断优先从快照读取, 默认 true
+     */
+    private Boolean authorizationSnapshotEnabled;
+    /**
+     * 开启 token 最低活跃频率时, token 最后活跃时间合并后批量写入的间隔（单位：毫秒）, 其他节点读到的最后活跃时间最多落后该间隔; 0 代表不合并, 每次请求直接写入, 默认 1000 毫秒
+     */
+    private Long activityFlushInterval;
+    /**
+     * 是否启用账户名布隆过滤器, 启用后一定不存在的账户名无需查询数据库即可判定, 默认 true
+     */
+    private Boolean accountNameFilterEnabled;
+    /**
+     * 账户名布隆过滤器的期望误判率, 默认 0.01
+     */
+    private Double accountNameFilterFpp;
+    /**
+     * 账户名布隆过滤器定期重建的间隔（单位：秒）, 补回丢失的新增账户名消息并按当前账户数量重新分配容量; 0 代表不重建, 默认 600 秒
+     */
+    private Long accountNameFilterRebuildInterval;
+    /**
+     * 是否启用登录限流, 默认 true
+     */
+    private Boolean loginRateLimitEnabled;
+    /**
+     * 同一登录账户名允许连续登录的次数(令牌桶容量), 默认 5
+     */
+    private Long loginUserNameCapacity;
+    /**
+     * 同一登录账户名每分钟恢复的登录次数, 默认 5
+     */
+    private Double loginUserNameRefillPerMinute;
+    /**
+     * 同一客户端 IP 允许连续登录的次数(令牌桶容量), 默认 20
+     */
+    private Long loginIpCapacity;
+    /**
+     * 同一客户端 IP 每分钟恢复的登录次数, 默认 30
+     */
+    private Double loginIpRefillPerMinute;
+    /**
+     * 登录限流使用的客户端 IP 请求头名称, 如 X-Forwarded-For, 只在请求来自受信任的代理时读取; 默认为空, 即只使用连接的远端地址
+     */
+    private String loginClientIpHeader;
+    /**
+     * 受信任的代理地址集合, 请求的远端地址在其中时才读取客户端 IP 请求头; 默认为空
+     */
+    private List<String> loginTrustedProxies;
 
 
     /**
@@ -91,5 +152,65 @@ public class AuthorizationConfigurationProperties implements InitializingBean {
         if (Objects.isNull(isLog)){
             this.isLog = Boolean.TRUE;
         }
+        // 如果未配置 permissionCacheEnabled 时, 默认为 true
+        if (Objects.isNull(permissionCacheEnabled)){
+            this.permissionCacheEnabled = Boolean.TRUE;
+        }
+        // 如果未配置 permissionCacheMaxSize 时, 默认为 10000
+        if (Objects.isNull(permissionCacheMaxSize)){
+            this.permissionCacheMaxSize = 10000;
+        }
+        // 如果未配置 permissionCacheTimeout 时, 默认为 1800 秒
+        if (Objects.isNull(permissionCacheTimeout)){
+            this.permissionCacheTimeout = 1800L;
+        }
+        // 如果未配置 authorizationSnapshotEnabled 时, 默认为 true
+        if (Objects.isNull(authorizationSnapshotEnabled)){
+            this.authorizationSnapshotEnabled = Boolean.TRUE;
+        }
+        // 如果未配置 activityFlushInterval 时, 默认为 1000 毫秒
+        if (Objects.isNull(activityFlushInterval)){
+            this.activityFlushInterval = 1000L;
+        }
+        // 如果未配置 accountNameFilterEnabled 时, 默认为 true
+        if (Objects.isNull(accountNameFilterEnabled)){
+            this.accountNameFilterEnabled = Boolean.TRUE;
+        }
+        // 如果未配置 accountNameFilterFpp 时, 默认为 0.01
+        if (Objects.isNull(accountNameFilterFpp)){
+            this.accountNameFilterFpp = 0.01;
+        }
+        // 如果未配置 accountNameFilterRebuildInterval 时, 默认为 600
+        if (Objects.isNull(accountNameFilterRebuildInterval)){
+            this.accountNameFilterRebuildInterval = 600L;
+        }
+        // 如果未配置 loginRateLimitEnabled 时, 默认为 true
+        if (Objects.isNull(loginRateLimitEnabled)){
+            this.loginRateLimitEnabled = Boolean.TRUE;
+        }
+        // 如果未配置 loginUserNameCapacity 时, 默认为 5
+        if (Objects.isNull(loginUserNameCapacity)){
+            this.loginUserNameCapacity = 5L;
+        }
+        // 如果未配置 loginUserNameRefillPerMinute 时, 默认为 5
+        if (Objects.isNull(loginUserNameRefillPerMinute)){
+            this.loginUserNameRefillPerMinute = 5D;
+        }
+        // 如果未配置 loginIpCapacity 时, 默认为 20
+        if (Objects.isNull(loginIpCapacity)){
+            this.loginIpCapacity = 20L;
+        }
+        // 如果未配置 loginIpRefillPerMinute 时, 默认为 30
+        if (Objects.isNull(loginIpRefillPerMinute)){
+            this.loginIpRefillPerMinute = 30D;
+        }
+        // 如果未配置 loginTrustedProxies 时, 默认为空集合
+        if (Objects.isNull(loginTrustedProxies)){
+            this.loginTrustedProxies = new ArrayList<>();
+        }
+        // 写入间隔不能超过最低活跃频率的十分之一, 保证延迟写入不会让其他节点误判 token 已冻结
+        if (activityTimeout > 0 && activityFlushInterval > activityTimeout * 100){
+            this.activityFlushInterval = activityTimeout * 100;
+        }
     }
 }
@@ -0,0 +1,39 @@
+package com.ranyk.authorization.config.route;
+
+import com.ranyk.common.constant.RouteAccessEnum;
+import lombok.*;
+
+/**
+ * CLASS_NAME: RouteSecurityRule.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 路由鉴权规则, 请求路径以 pathPrefix 为前缀(按路径分段匹配)时适用, 多条规则同时匹配时以前缀最长的为准;
+ * 精确匹配的规则只在请求路径与 pathPrefix 完全相同(按路径分段比较)时适用, 同一路径上精确匹配的规则优先于前缀匹配的规则
+ * @date: 2026-10-18
+ */
+@Data
+@Builder
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class RouteSecurityRule {
+
+    /**
+     * 路径前缀, 如 /login、/static; / 代表所有路径的默认规则
+     */
+    private String pathPrefix;
+    /**
+     * 访问要求, 参见 {@link RouteAccessEnum}
+     */
+    private RouteAccessEnum access;
+    /**
+     * 访问要求为 角色 或 权限 时需要拥有的角色代码或权限代码
+     */
+    private String code;
+    /**
+     * 是否精确匹配, true: 只匹配与 pathPrefix 完全相同的路径, 不包含其下级路径; false(默认): 匹配 pathPrefix 及其所有下级路径
+     */
+    private boolean exact;
+}
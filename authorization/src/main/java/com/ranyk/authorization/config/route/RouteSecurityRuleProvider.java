@@ -0,0 +1,22 @@
+package com.ranyk.authorization.config.route;
+
+import java.util.List;
+
+/**
+ * CLASS_NAME: RouteSecurityRuleProvider.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 路由鉴权规则提供接口, 各模块在自己的配置类中声明该接口的 Bean 即可追加路由鉴权规则, 启动时统一编译为路由鉴权表
+ * @date: 2026-10-18
+ */
+@FunctionalInterface
+public interface RouteSecurityRuleProvider {
+
+    /**
+     * 获取本模块的路由鉴权规则
+     *
+     * @return 路由鉴权规则 List 集合, 单个规则参见 {@link RouteSecurityRule}
+     */
+    List<RouteSecurityRule> routeSecurityRules();
+}
@@ -0,0 +1,120 @@
+package com.ranyk.authorization.config.route;
+
+import com.ranyk.common.constant.RouteAccessEnum;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * CLASS_NAME: RouteSecurityTable.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 路由鉴权表, 启动时将路由鉴权规则按路径分段编译为前缀字典树, 每次请求只需沿请求路径查找一次即可得到前缀最长的规则,
+ * 查找耗时只与请求路径的段数有关, 与规则数量无关; 请求路径的所有路径段都匹配到节点时, 该节点上精确匹配的规则优先; 编译完成后不再修改, 可被多线程并发读取
+ * @date: 2026-10-18
+ */
+public final class RouteSecurityTable {
+
+    /**
+     * 没有任何规则匹配时使用的默认规则: 需要登录
+     */
+    private static final RouteSecurityRule DEFAULT_RULE = RouteSecurityRule.builder().pathPrefix("/").access(RouteAccessEnum.LOGIN).build();
+    /**
+     * 字典树根节点, 对应路径前缀 /
+     */
+    private final Node root = new Node();
+
+    /**
+     * 构造方法, 编译路由鉴权规则
+     *
+     * @param rules 路由鉴权规则集合
+     */
+    public RouteSecurityTable(Collection<RouteSecurityRule> rules) {
+        rules.forEach(this::compile);
+    }
+
+    /**
+     * 查找请求路径适用的路由鉴权规则
+     *
+     * @param path 请求路径
+     * @return 与请求路径完全相同的精确匹配规则, 不存在时为前缀最长的匹配规则, 没有规则匹配时为需要登录的默认规则
+     */
+    public RouteSecurityRule match(String path) {
+        Node node = root;
+        RouteSecurityRule matched = Objects.nonNull(root.rule) ? root.rule : DEFAULT_RULE;
+        int length = path.length();
+        int start = 0;
+        // 逐段向下查找, 不做字符串分割, 记录沿途最后一个带规则的节点
+        while (start < length) {
+            if (path.charAt(start) == '/') {
+                start++;
+                continue;
+            }
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            node = node.children.get(path.substring(start, end));
+            if (Objects.isNull(node)) {
+                return matched;
+            }
+            if (Objects.nonNull(node.rule)) {
+                matched = node.rule;
+            }
+            start = end;
+        }
+        // 请求路径的所有路径段都已匹配, 存在精确匹配的规则时以其为准
+        return Objects.nonNull(node.exactRule) ? node.exactRule : matched;
+    }
+
+    /**
+     * 将单条规则编译进字典树
+     *
+     * @param rule 路由鉴权规则
+     */
+    private void compile(RouteSecurityRule rule) {
+        if (Objects.isNull(rule.getPathPrefix()) || Objects.isNull(rule.getAccess())) {
+            throw new IllegalArgumentException("路由鉴权规则的路径前缀和访问要求不能为空: " + rule);
+        }
+        if ((rule.getAccess() == RouteAccessEnum.ROLE || rule.getAccess() == RouteAccessEnum.PERMISSION) && Objects.isNull(rule.getCode())) {
+            throw new IllegalArgumentException("访问要求为角色或权限的路由鉴权规则必须指定代码: " + rule);
+        }
+        Node node = root;
+        for (String segment : rule.getPathPrefix().split("/")) {
+            if (!segment.isEmpty()) {
+                node = node.children.computeIfAbsent(segment, key -> new Node());
+            }
+        }
+        // 同一路径前缀只允许一条前缀匹配规则和一条精确匹配规则, 避免不同模块的规则静默互相覆盖
+        RouteSecurityRule existing = rule.isExact() ? node.exactRule : node.rule;
+        if (Objects.nonNull(existing) && !existing.equals(rule)) {
+            throw new IllegalStateException("路由鉴权规则冲突: " + existing + " 与 " + rule);
+        }
+        if (rule.isExact()) {
+            node.exactRule = rule;
+        } else {
+            node.rule = rule;
+        }
+    }
+
+    /**
+     * 字典树节点
+     */
+    private static final class Node {
+        /**
+         * 子节点, key 为路径段
+         */
+        private final Map<String, Node> children = new HashMap<>();
+        /**
+         * 以该节点为路径前缀的规则, 没有时为 null
+         */
+        private RouteSecurityRule rule;
+        /**
+         * 只匹配该节点对应路径的精确匹配规则, 没有时为 null
+         */
+        private RouteSecurityRule exactRule;
+    }
+}
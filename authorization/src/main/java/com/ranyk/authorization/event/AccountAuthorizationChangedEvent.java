@@ -0,0 +1,43 @@
+package com.ranyk.authorization.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.io.Serial;
+import java.util.Set;
+
+/**
+ * CLASS_NAME: AccountAuthorizationChangedEvent.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 账户授权信息变更事件, 账户的角色或权限发生变化并移除其授权信息缓存后发布, 供授权信息快照等本地视图刷新使用
+ * @date: 2026-10-18
+ */
+@Getter
+public class AccountAuthorizationChangedEvent extends ApplicationEvent {
+
+    @Serial
+    private static final long serialVersionUID = -5736182206493925847L;
+    /**
+     * 授权信息发生变化的账户 ID 集合
+     */
+    private final Set<Long> accountIds;
+    /**
+     * 是否所有账户的授权信息均已变化, 为 true 时忽略 accountIds
+     */
+    private final boolean allAccounts;
+
+    /**
+     * 构造函数
+     *
+     * @param source      事件源
+     * @param accountIds  授权信息发生变化的账户 ID 集合
+     * @param allAccounts 是否所有账户的授权信息均已变化
+     */
+    public AccountAuthorizationChangedEvent(Object source, Set<Long> accountIds, boolean allAccounts) {
+        super(source);
+        this.accountIds = Set.copyOf(accountIds);
+        this.allAccounts = allAccounts;
+    }
+}
@@ -34,6 +34,29 @@ public interface AccountRepository extends JpaRepository<Account, Long>, CrudRep
      */
     Optional<Account> findByUserNameAndPasswordAndStatusEquals(String userName, String password, Integer status);
 
+    /**
+     * 通过账户名和密码查询有效的登录账户信息, 同时关联查询该账户绑定的用户头像和用户名称, 一次查询完成登录所需的全部数据
+     *
+     * @param userName 用户名
+     * @param password 密码
+     * @param status   账户状态
+     * @return 登录账户信息投影 {@link LoginAccountView}
+     */
+    @Query("select a.id as id, a.userName as userName, a.status as status, u.avatar as avatar, u.userName as userAccount " +
+            "from Account a " +
+            "left join AccountUserConnection auc on auc.accountId = a.id " +
+            "left join UserBase u on u.id = auc.userId " +
+            "where a.userName = :userName and a.password = :password and a.status = :status")
+    List<LoginAccountView> findLoginAccountView(@Param("userName") String userName, @Param("password") String password, @Param("status") Integer status);
+
+    /**
+     * 查询所有账户的账户名, 包含已注销的账户
+     *
+     * @return 账户名 List 集合
+     */
+    @Query("select a.userName from Account a")
+    List<String> findAllUserName();
+
     /**
      * 查询是否存在一条指定账户名的数据
      *
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -44,4 +46,12 @@ public interface AccountUserConnectionRepository extends JpaRepository<AccountUs
      * @return 账户用户关联关系数据映射实体对象 {@link AccountUserConnection}
      */
     Optional<AccountUserConnection> findAccountUserConnectionByUserId(Long userId);
+
+    /**
+     * 依据用户 ID 集合查询账户用户关联关系数据信息
+     *
+     * @param userIds 用户 ID 集合
+     * @return 账户用户关联关系数据映射实体对象 List 集合, 单个参见 {@link AccountUserConnection}
+     */
+    List<AccountUserConnection> findByUserIdIn(Collection<Long> userIds);
 }
@@ -0,0 +1,47 @@
+package com.ranyk.authorization.repository.account;
+
+/**
+ * CLASS_NAME: LoginAccountView.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 登录账户查询投影接口, 单行数据为登录账户信息以及该账户关联的用户头像和用户名称
+ * @date: 2026-10-18
+ */
+public interface LoginAccountView {
+
+    /**
+     * 获取账户数据 ID
+     *
+     * @return 账户数据 ID
+     */
+    Long getId();
+
+    /**
+     * 获取账户名
+     *
+     * @return 账户名
+     */
+    String getUserName();
+
+    /**
+     * 获取账户状态
+     *
+     * @return 账户状态
+     */
+    Integer getStatus();
+
+    /**
+     * 获取账户关联的用户头像
+     *
+     * @return 用户头像, 账户未关联用户信息时为 null
+     */
+    String getAvatar();
+
+    /**
+     * 获取账户关联的用户名称
+     *
+     * @return 用户名称, 账户未关联用户信息时为 null
+     */
+    String getUserAccount();
+}
@@ -0,0 +1,26 @@
+package com.ranyk.authorization.repository.permissions;
+
+/**
+ * CLASS_NAME: AccountAuthorizationCodeView.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 账户授权代码查询投影接口, 单行数据为账户拥有的一个 角色代码 和 该角色下的一个权限代码
+ * @date: 2026-10-18
+ */
+public interface AccountAuthorizationCodeView {
+
+    /**
+     * 获取角色代码
+     *
+     * @return 账户拥有的有效角色代码
+     */
+    String getRoleCode();
+
+    /**
+     * 获取权限代码
+     *
+     * @return 该角色下的有效权限代码, 当该角色未关联有效权限时为 null
+     */
+    String getPermissionCode();
+}
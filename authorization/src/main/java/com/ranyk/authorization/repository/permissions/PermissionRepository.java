@@ -52,4 +52,35 @@ public interface PermissionRepository extends JpaRepository<Permission, Long>, C
     @Modifying
     @Query("update Permission p set p.status = :status, p.updateId = :updateId, p.updateTime = :updateTime where p.id in :ids and p.status != -1")
     Integer updatePermissionStatusByIdIn(@Param("ids") List<Long> ids, @Param("status") Integer status, @Param("updateId") Long updateId, @Param("updateTime") LocalDateTime updateTime);
+
+    /**
+     * 通过账户 ID 一次性查询该账户拥有的有效角色代码和有效权限代码, 关联 账户角色关联表、角色信息表、角色继承闭包表、角色权限关联表、权限信息表;
+     * 账户拥有的角色会同时带上其所有有效的上级角色, 上级角色的权限一并继承; 角色自身始终参与计算, 闭包表缺少角色自身的数据时不影响该角色自身的权限
+     *
+     * @param accountId        需要查询的账户 ID
+     * @param roleStatus       有效的角色状态值
+     * @param permissionStatus 有效的权限状态值
+     * @return 去重后的 角色代码-权限代码 投影 List 集合, 单个参见 {@link AccountAuthorizationCodeView}; 角色未关联有效权限时, 权限代码为 null
+     */
+    @Query("select distinct r.code as roleCode, p.code as permissionCode from AccountRoleConnection arc join Role hr on hr.id = arc.roleId and hr.status = :roleStatus left join RoleClosure rc on rc.descendantId = hr.id join Role r on (r.id = hr.id or r.id = rc.ancestorId) and r.status = :roleStatus left join RolePermissionConnection rpc on rpc.roleId = r.id left join Permission p on p.id = rpc.permissionId and p.status = :permissionStatus where arc.accountId = :accountId")
+    List<AccountAuthorizationCodeView> findAuthorizationCodeByAccountId(@Param("accountId") Long accountId, @Param("roleStatus") Integer roleStatus, @Param("permissionStatus") Integer permissionStatus);
+
+    /**
+     * 查询权限信息 - 状态为指定的状态
+     *
+     * @param status 需要查询的权限状态
+     * @return 权限信息 List 集合, 单个权限信息参见 {@link Permission}
+     */
+    List<Permission> findByStatus(Integer status);
+
+    /**
+     * 查询权限代码按段匹配指定前缀且状态为指定状态的权限信息, 权限代码等于前缀或以 前缀 + ":" 开头时匹配, 如前缀 user 匹配 user、user:list, 不匹配 username:list;
+     * 前缀中的 % 和 _ 会被转义, 按字面值匹配
+     *
+     * @param codePrefix 权限代码前缀
+     * @param status     需要查询的权限状态
+     * @return 权限信息 List 集合, 单个权限信息参见 {@link Permission}
+     */
+    @Query("select p from Permission p where p.status = ?2 and (p.code = ?1 or p.code like concat(?#{escape([0])}, ':%') escape ?#{escapeCharacter()})")
+    List<Permission> findByCodeSegmentPrefixAndStatus(String codePrefix, Integer status);
 }
@@ -0,0 +1,88 @@
+package com.ranyk.authorization.repository.role;
+
+import com.ranyk.model.business.role.entity.RoleClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * CLASS_NAME: RoleClosureRepository.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 角色继承闭包信息数据库操作类
+ * @date: 2026-10-18
+ */
+@Repository
+public interface RoleClosureRepository extends JpaRepository<RoleClosure, Long>, CrudRepository<RoleClosure, Long>, JpaSpecificationExecutor<RoleClosure> {
+
+    /**
+     * 通过下级角色 ID 列表, 获取对应的角色继承闭包信息, 即这些角色的所有上级角色(包含自身)
+     *
+     * @param descendantIds 下级角色 ID 列表
+     * @return 角色继承闭包信息 List 集合, 单个参见 {@link RoleClosure}
+     */
+    List<RoleClosure> findByDescendantIdIn(Collection<Long> descendantIds);
+
+    /**
+     * 通过上级角色 ID 列表, 获取对应的角色继承闭包信息, 即这些角色的所有下级角色(包含自身)
+     *
+     * @param ancestorIds 上级角色 ID 列表
+     * @return 角色继承闭包信息 List 集合, 单个参见 {@link RoleClosure}
+     */
+    List<RoleClosure> findByAncestorIdIn(Collection<Long> ancestorIds);
+
+    /**
+     * 获取闭包表中已存在自身数据(层级距离为 0)的角色 ID
+     *
+     * @return 角色 ID List 集合
+     */
+    @Query("select rc.descendantId from RoleClosure rc where rc.depth = 0")
+    List<Long> findSelfRoleIds();
+
+    /**
+     * 删除指定角色作为下级角色的所有继承关系, 即这些角色与其所有上级角色(包含自身)之间的关系
+     *
+     * @param descendantIds 下级角色 ID 列表
+     * @return 删除的数据数量
+     */
+    @Modifying
+    @Query("delete from RoleClosure rc where rc.descendantId in :descendantIds")
+    Integer deleteByDescendantIds(@Param("descendantIds") Collection<Long> descendantIds);
+
+    /**
+     * 判断指定的上级角色和下级角色之间是否存在继承关系
+     *
+     * @param ancestorId   上级角色 ID
+     * @param descendantId 下级角色 ID
+     * @return 存在返回 true, 不存在返回 false
+     */
+    Boolean existsByAncestorIdAndDescendantId(Long ancestorId, Long descendantId);
+
+    /**
+     * 断开子树与其外部上级角色之间的继承关系, 子树内部的继承关系保留
+     *
+     * @param subtreeIds 子树中所有角色的 ID 列表
+     * @return 删除的数据数量
+     */
+    @Modifying
+    @Query("delete from RoleClosure rc where rc.descendantId in :subtreeIds and rc.ancestorId not in :subtreeIds")
+    Integer deleteBySubtreeExternalAncestors(@Param("subtreeIds") Collection<Long> subtreeIds);
+
+    /**
+     * 删除指定角色作为上级角色或下级角色的所有继承关系
+     *
+     * @param roleIds 角色 ID 列表
+     * @return 删除的数据数量
+     */
+    @Modifying
+    @Query("delete from RoleClosure rc where rc.ancestorId in :roleIds or rc.descendantId in :roleIds")
+    Integer deleteByRoleIds(@Param("roleIds") Collection<Long> roleIds);
+}
@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -60,4 +61,20 @@ public interface RoleRepository extends JpaRepository<Role, Long>, CrudRepositor
      * @return 角色信息 List 集合, 单个角色信息参见 {@link Role}
      */
     List<Role> findByStatus(Integer status);
+
+    /**
+     * 查询角色信息 - 状态不为指定的状态
+     *
+     * @param status 需要排除的角色状态
+     * @return 角色信息 List 集合, 单个角色信息参见 {@link Role}
+     */
+    List<Role> findByStatusNot(Integer status);
+
+    /**
+     * 查询指定父角色下的直接子角色信息
+     *
+     * @param parentIds 父角色 ID 列表
+     * @return 角色信息 List 集合, 单个角色信息参见 {@link Role}
+     */
+    List<Role> findByParentIdIn(Collection<Long> parentIds);
 }
@@ -0,0 +1,198 @@
+package com.ranyk.authorization.service.account;
+
+import com.ranyk.authorization.config.properties.AuthorizationConfigurationProperties;
+import com.ranyk.authorization.repository.account.AccountRepository;
+import com.ranyk.cache.bloom.BloomFilter;
+import com.ranyk.cache.bus.InvalidationBus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CLASS_NAME: AccountNameFilterService.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 账户名布隆过滤器业务逻辑类, 启动时加载所有账户名, 新增或修改账户名时同步添加并通过缓存失效消息总线通知其他节点;
+ * 判定为一定不存在的账户名无需查询数据库, 只用于登录时抵御大量不存在账户名的请求; 新增或修改账户时的账户名重复校验不依赖该过滤器;
+ * 新增账户名消息丢失(如 Redis 发布/订阅断线、多节点部署误用进程内消息总线)时其他节点会把该账户名误判为不存在, 因此按配置的间隔定期从数据库重建过滤器, 误判最多持续一个重建间隔
+ * @date: 2026-10-18
+ */
+@Slf4j
+@Service
+public class AccountNameFilterService {
+
+    /**
+     * 新增账户名在缓存失效消息总线中的缓存区域, 消息 key 为新增的账户名
+     */
+    public static final String INVALIDATION_REGION = "account-user-name";
+    /**
+     * 过滤器预期账户名数量的最小值
+     */
+    private static final long MIN_EXPECTED_INSERTIONS = 10000L;
+    /**
+     * 账户信息数据库操作对象
+     */
+    private final AccountRepository accountRepository;
+    /**
+     * 授权配置属性对象
+     */
+    private final AuthorizationConfigurationProperties authorizationConfigurationProperties;
+    /**
+     * 缓存失效消息总线对象
+     */
+    private final InvalidationBus invalidationBus;
+    /**
+     * 账户名布隆过滤器, 加载开始前为 null
+     */
+    private volatile BloomFilter bloomFilter;
+    /**
+     * 正在重建的账户名布隆过滤器, 重建期间新增的账户名同时写入该过滤器, 未重建时为 null
+     */
+    private volatile BloomFilter rebuildingFilter;
+    /**
+     * 定期重建过滤器的线程池, 未开启定期重建时为 null
+     */
+    private ScheduledExecutorService rebuildExecutor;
+    /**
+     * 账户名是否已全部加载, 未加载完成前所有账户名都视为可能存在
+     */
+    private volatile boolean ready;
+
+    /**
+     * 构造方法
+     *
+     * @param accountRepository                    账户信息数据库操作对象
+     * @param authorizationConfigurationProperties 授权配置属性对象
+     * @param invalidationBus                      缓存失效消息总线对象
+     */
+    @Autowired
+    public AccountNameFilterService(AccountRepository accountRepository,
+                                    AuthorizationConfigurationProperties authorizationConfigurationProperties,
+                                    InvalidationBus invalidationBus) {
+        this.accountRepository = accountRepository;
+        this.authorizationConfigurationProperties = authorizationConfigurationProperties;
+        this.invalidationBus = invalidationBus;
+        // 订阅新增账户名消息, 包含本节点和其他节点发布的消息
+        invalidationBus.subscribe(INVALIDATION_REGION, userNames -> userNames.forEach(this::putLocal));
+    }
+
+    /**
+     * 应用启动完成后加载所有账户名, 并按配置的间隔定期重建
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        if (!authorizationConfigurationProperties.getAccountNameFilterEnabled()) {
+            return;
+        }
+        rebuild();
+        long rebuildInterval = authorizationConfigurationProperties.getAccountNameFilterRebuildInterval();
+        if (rebuildInterval <= 0 || Objects.nonNull(rebuildExecutor)) {
+            return;
+        }
+        rebuildExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "account-name-filter-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        rebuildExecutor.scheduleWithFixedDelay(this::rebuildQuietly, rebuildInterval, rebuildInterval, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 销毁时停止定期重建线程
+     */
+    @PreDestroy
+    public synchronized void destroy() {
+        if (Objects.nonNull(rebuildExecutor)) {
+            rebuildExecutor.shutdownNow();
+            rebuildExecutor = null;
+        }
+    }
+
+    /**
+     * 从数据库重建过滤器, 重建完成后替换当前过滤器; 重建期间仍使用当前过滤器判定
+     */
+    private void rebuild() {
+        // 1. 按当前账户数量的两倍预留容量创建过滤器, 并在查询账户名之前发布, 查询期间新增的账户名同样会写入该过滤器
+        BloomFilter filter = new BloomFilter(Math.max(accountRepository.count() * 2L, MIN_EXPECTED_INSERTIONS), authorizationConfigurationProperties.getAccountNameFilterFpp());
+        this.rebuildingFilter = filter;
+        try {
+            // 2. 查询所有账户名并写入过滤器
+            List<String> userNames = accountRepository.findAllUserName();
+            userNames.stream().filter(Objects::nonNull).forEach(filter::put);
+            // 3. 全部加载完成后才替换当前过滤器并开始用于判定
+            this.bloomFilter = filter;
+            this.ready = true;
+            log.info("账户名布隆过滤器加载完成, 账户名数量: {}", userNames.size());
+        } finally {
+            this.rebuildingFilter = null;
+        }
+    }
+
+    /**
+     * 定期重建过滤器, 重建失败时继续使用当前过滤器, 等待下一次重建
+     */
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("账户名布隆过滤器重建失败, 继续使用当前过滤器!", e);
+        }
+    }
+
+    /**
+     * 判断账户名是否可能存在
+     *
+     * @param userName 账户名
+     * @return true: 可能存在, 需要查询数据库确认; false: 一定不存在
+     */
+    public boolean mightExist(String userName) {
+        if (Objects.isNull(userName)) {
+            return false;
+        }
+        if (!ready) {
+            return true;
+        }
+        return bloomFilter.mightContain(userName);
+    }
+
+    /**
+     * 添加账户名, 并通知其他节点添加; 事务回滚时残留的账户名只会导致一次多余的数据库查询
+     *
+     * @param userName 账户名
+     */
+    public void add(String userName) {
+        if (Objects.isNull(userName) || !authorizationConfigurationProperties.getAccountNameFilterEnabled()) {
+            return;
+        }
+        putLocal(userName);
+        invalidationBus.publish(INVALIDATION_REGION, Set.of(userName));
+    }
+
+    /**
+     * 将账户名添加到本节点的过滤器
+     *
+     * @param userName 账户名
+     */
+    private void putLocal(String userName) {
+        // 先写入正在重建的过滤器, 再写入当前过滤器, 重建完成替换当前过滤器时不会丢失该账户名
+        BloomFilter rebuilding = this.rebuildingFilter;
+        if (Objects.nonNull(rebuilding)) {
+            rebuilding.put(userName);
+        }
+        BloomFilter filter = this.bloomFilter;
+        if (Objects.nonNull(filter)) {
+            filter.put(userName);
+        }
+    }
+}
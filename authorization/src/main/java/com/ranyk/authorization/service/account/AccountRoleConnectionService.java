@@ -4,6 +4,7 @@ import cn.dev33.satoken.stp.StpUtil;
 import cn.hutool.core.bean.BeanUtil;
 import cn.hutool.core.collection.CollUtil;
 import com.ranyk.authorization.repository.account.AccountRoleConnectionRepository;
+import com.ranyk.authorization.service.permissions.AccountAuthorizationCacheService;
 import com.ranyk.model.business.account.dto.AccountRoleConnectionDTO;
 import com.ranyk.model.business.account.entity.AccountRoleConnection;
 import com.ranyk.model.exception.service.ServiceException;
@@ -17,6 +18,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * CLASS_NAME: AccountRoleConnectionService.java
@@ -34,15 +36,22 @@ public class AccountRoleConnectionService {
      * 账户角色关联关系数据库操作类对象
      */
     private final AccountRoleConnectionRepository accountRoleConnectionRepository;
+    /**
+     * 账户授权信息缓存业务逻辑类对象
+     */
+    private final AccountAuthorizationCacheService accountAuthorizationCacheService;
 
     /**
      * 构造函数
      *
-     * @param accountRoleConnectionRepository 账户角色关联关系数据库操作类对象
+     * @param accountRoleConnectionRepository  账户角色关联关系数据库操作类对象
+     * @param accountAuthorizationCacheService 账户授权信息缓存业务逻辑类对象
      */
     @Autowired
-    public AccountRoleConnectionService(AccountRoleConnectionRepository accountRoleConnectionRepository) {
+    public AccountRoleConnectionService(AccountRoleConnectionRepository accountRoleConnectionRepository,
+                                        AccountAuthorizationCacheService accountAuthorizationCacheService) {
         this.accountRoleConnectionRepository = accountRoleConnectionRepository;
+        this.accountAuthorizationCacheService = accountAuthorizationCacheService;
     }
 
     /**
@@ -85,7 +94,9 @@ public class AccountRoleConnectionService {
             log.error("账户和角色关联关系保存失败, 需要保存的账户和角色关联关系数据量为: {} , 实际保存的账户和角色关联关系数据量为: {}", accountRoleConnectionDTOList.size(), accountRoleConnections.size());
             throw new ServiceException("create.data.fail");
         }
-        // 6. 输出日志
+        // 6. 事务提交后移除新关联账户的授权信息缓存, 并递增其授权纪元
+        accountAuthorizationCacheService.evictAfterCommit(accountRoleConnections.stream().map(AccountRoleConnection::getAccountId).collect(Collectors.toSet()));
+        // 7. 输出日志
         log.info("账户和角色关联关系保存成功, 保存的账户和角色关联关系数据量为: {}", accountRoleConnections.size());
     }
 
@@ -101,7 +112,9 @@ public class AccountRoleConnectionService {
             log.error("{} 不需进行账户角色关联关系删除逻辑!", Objects.isNull(accountRoleConnectionDTO) ? "账户角色关联关系对象为空," : "角色 ID 为空,");
             throw new ServiceException("no.data.need.delete");
         }
-        // 2. 执行删除数据操作, 条件为指定的角色 ID
+        // 2. 获取删除前关联该角色的账户, 事务提交后移除其授权信息缓存, 并递增其授权纪元
+        accountAuthorizationCacheService.evictAfterCommit(accountRoleConnectionRepository.findAllByRoleIdIn(List.of(accountRoleConnectionDTO.getRoleId())).stream().map(AccountRoleConnection::getAccountId).collect(Collectors.toSet()));
+        // 3. 执行删除数据操作, 条件为指定的角色 ID
         Long deleteCount = accountRoleConnectionRepository.deleteByRoleIdEquals(accountRoleConnectionDTO.getRoleId());
         log.info("账户和角色关联关系删除成功, 删除的账户和角色关联关系数据量为: {}", deleteCount.intValue());
     }
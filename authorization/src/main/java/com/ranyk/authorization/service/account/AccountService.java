@@ -5,6 +5,9 @@ import cn.hutool.core.bean.BeanUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.crypto.digest.DigestUtil;
 import com.ranyk.authorization.repository.account.AccountRepository;
+import com.ranyk.authorization.repository.account.LoginAccountView;
+import com.ranyk.authorization.service.permissions.AccountAuthorizationCacheService;
+import com.ranyk.authorization.service.user.CurrentUserSessionService;
 import com.ranyk.common.constant.AccountEnum;
 import com.ranyk.common.constant.AccountPermissionEnum;
 import com.ranyk.common.constant.AccountStatusEnum;
@@ -56,21 +59,49 @@ public class AccountService {
      * 登录账户信息数据库操作类
      */
     private final AccountRepository accountRepository;
+    /**
+     * 账户授权信息缓存业务逻辑类对象
+     */
+    private final AccountAuthorizationCacheService accountAuthorizationCacheService;
+    /**
+     * 账户名布隆过滤器业务逻辑类对象
+     */
+    private final AccountNameFilterService accountNameFilterService;
+    /**
+     * 当前用户信息会话缓存业务逻辑类对象
+     */
+    private final CurrentUserSessionService currentUserSessionService;
+    /**
+     * 账户登录会话批量吊销业务逻辑类对象
+     */
+    private final AccountSessionRevocationService accountSessionRevocationService;
 
     /**
      * 构造方法
      *
-     * @param accountRoleConnectionService 账户角色关联关系业务逻辑类对象
-     * @param accountUserConnectionService 账户用户关联关系业务逻辑类对象
-     * @param accountRepository            登录账户信息数据库操作类
+     * @param accountRoleConnectionService     账户角色关联关系业务逻辑类对象
+     * @param accountUserConnectionService     账户用户关联关系业务逻辑类对象
+     * @param accountRepository                登录账户信息数据库操作类
+     * @param accountAuthorizationCacheService 账户授权信息缓存业务逻辑类对象
+     * @param accountNameFilterService         账户名布隆过滤器业务逻辑类对象
+     * @param currentUserSessionService        当前用户信息会话缓存业务逻辑类对象
+     * @param accountSessionRevocationService  账户登录会话批量吊销业务逻辑类对象
      */
     @Autowired
     public AccountService(AccountRoleConnectionService accountRoleConnectionService,
                           AccountUserConnectionService accountUserConnectionService,
-                          AccountRepository accountRepository) {
+                          AccountRepository accountRepository,
+                          AccountAuthorizationCacheService accountAuthorizationCacheService,
+                          AccountNameFilterService accountNameFilterService,
+                          CurrentUserSessionService currentUserSessionService,
+                          AccountSessionRevocationService accountSessionRevocationService) {
         this.accountRoleConnectionService = accountRoleConnectionService;
         this.accountUserConnectionService = accountUserConnectionService;
         this.accountRepository = accountRepository;
+        this.accountAuthorizationCacheService = accountAuthorizationCacheService;
+        this.accountNameFilterService = accountNameFilterService;
+        this.currentUserSessionService = currentUserSessionService;
+        this.accountSessionRevocationService = accountSessionRevocationService;
     }
 
     /**
@@ -93,7 +124,7 @@ public class AccountService {
         if (StrUtil.isBlank(accountDTO.getPassword())) {
             throw new UserException("user.password.not.blank");
         }
-        // 4. 登录账户名不能已存在
+        // 4. 登录账户名不能已存在; 布隆过滤器只在本节点维护, 可能尚未同步, 此处必须查询数据库, 并发新增时由账户名唯一索引兜底
         if (accountRepository.existsByUserName(accountDTO.getUserName())) {
             throw new UserException("user.username.exists");
         }
@@ -110,6 +141,7 @@ public class AccountService {
                 .build();
         // 6. 保存账户信息到数据库
         Account saveResult = accountRepository.save(saveEntity);
+        accountNameFilterService.add(saveResult.getUserName());
         AccountDTO saveResultDTO = BeanUtil.copyProperties(saveResult, AccountDTO.class);
         saveResultDTO.setPassword("");
         return saveResultDTO;
@@ -140,6 +172,10 @@ public class AccountService {
         }
         // 6. 执行批量注销账户
         int result = accountRepository.batchDeregistrationAccountStatusByIds(ids, AccountStatusEnum.DELETED.getCode(), StpUtil.getLoginIdAsLong(), LocalDateTime.now());
+        // 7. 事务提交后移除已注销账户的授权信息缓存
+        accountAuthorizationCacheService.evictAfterCommit(ids);
+        // 8. 事务提交后批量吊销已注销账户的全部登录会话
+        accountSessionRevocationService.revokeAfterCommit(ids);
         log.info("本次注销账户数量: {} 个", result);
     }
 
@@ -170,7 +206,7 @@ public class AccountService {
             if (!accountRepository.existsById(accountDTO.getId())) {
                 throw new ServiceException("no.data.need.update");
             }
-            // 判断修改的账户名已经被其他账户使用
+            // 判断修改的账户名已经被其他账户使用, 必须查询数据库, 并发修改时由账户名唯一索引兜底
             if (accountRepository.existsByUserNameEqualsAndIdNot(accountDTO.getUserName(), accountDTO.getId())) {
                 log.error("用户名 {} 已存在", accountDTO.getUserName());
                 throw new ServiceException("user.username.exists");
@@ -179,6 +215,7 @@ public class AccountService {
             accountRepository.findById(accountDTO.getId()).ifPresent(account -> {
                 if (StrUtil.isNotEmpty(accountDTO.getUserName())) {
                     account.setUserName(accountDTO.getUserName());
+                    accountNameFilterService.add(accountDTO.getUserName());
                 }
                 if (StrUtil.isNotEmpty(accountDTO.getPassword())) {
                     account.setPassword(DigestUtil.md5Hex(accountDTO.getPassword()));
@@ -247,6 +284,29 @@ public class AccountService {
         return BeanUtil.copyProperties(account, AccountDTO.class);
     }
 
+    /**
+     * 通过用户名和密码查询系统登录账户信息以及该账户关联的用户头像和用户名称, 只执行一次关联查询
+     *
+     * @param accountDTO 用户登录参数封装对象, 参见 {@link AccountDTO}
+     * @return 返回查询到的登录账户信息对象 {@link AccountDTO}, 未查询到时返回一个没有数据 id 的新对象
+     */
+    public AccountDTO queryLoginAccountWithUserInfo(AccountDTO accountDTO) {
+        // 1. 关联查询账户、账户用户关联关系和用户信息, 一个账户正常只会关联一个用户信息, 取第一条数据
+        List<LoginAccountView> loginAccountViewList = accountRepository.findLoginAccountView(accountDTO.getUserName(), DigestUtil.md5Hex(accountDTO.getPassword()), AccountStatusEnum.ENABLED.getCode());
+        if (loginAccountViewList.isEmpty()) {
+            return AccountDTO.builder().build();
+        }
+        // 2. 直接由投影组装返回对象, 不再经过实体拷贝
+        LoginAccountView loginAccountView = loginAccountViewList.getFirst();
+        return AccountDTO.builder()
+                .id(loginAccountView.getId())
+                .userName(loginAccountView.getUserName())
+                .status(loginAccountView.getStatus())
+                .avatar(loginAccountView.getAvatar())
+                .userAccount(loginAccountView.getUserAccount())
+                .build();
+    }
+
     /**
      * 新增账户和用户信息关联关系
      *
@@ -255,6 +315,8 @@ public class AccountService {
     @Transactional(rollbackFor = Exception.class)
     public void addAccountUserConnection(List<AccountUserConnectionDTO> accountUserConnectionDTOList) {
         accountUserConnectionService.addAccountUserConnection(accountUserConnectionDTOList);
+        // 事务提交后移除新绑定账户会话中的用户信息, 下次获取时重新加载
+        currentUserSessionService.evictByAccountIdsAfterCommit(accountUserConnectionDTOList.stream().map(AccountUserConnectionDTO::getAccountId).toList());
     }
 
     /**
@@ -0,0 +1,100 @@
+package com.ranyk.authorization.service.account;
+
+import cn.dev33.satoken.SaManager;
+import cn.dev33.satoken.dao.SaTokenDao;
+import cn.dev33.satoken.session.SaSession;
+import cn.dev33.satoken.session.SaTerminalInfo;
+import cn.dev33.satoken.stp.StpLogic;
+import cn.dev33.satoken.stp.StpUtil;
+import cn.hutool.core.collection.CollUtil;
+import com.ranyk.cache.dao.BatchDeleteSaTokenDao;
+import com.ranyk.cache.dao.BatchGetSessionSaTokenDao;
+import com.ranyk.core.utils.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * CLASS_NAME: AccountSessionRevocationService.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 账户登录会话批量吊销业务逻辑类, 以账户会话(Account-Session)中的登录终端列表作为账户 -> token 的反向索引,
+ * 一次读取多个账户的账户会话并收集全部 token 相关 key 后交给持久层批量删除, 被吊销账户的 token 在所有节点上立即失效, 请求时无需再校验账户状态
+ * @date: 2026-10-18
+ */
+@Slf4j
+@Service
+public class AccountSessionRevocationService {
+
+    /**
+     * 在当前事务提交后吊销指定账户的全部登录会话, 不存在事务时立即吊销
+     *
+     * @param accountIds 需要吊销登录会话的账户 ID 集合
+     */
+    public void revokeAfterCommit(Collection<Long> accountIds) {
+        if (CollUtil.isEmpty(accountIds)) {
+            return;
+        }
+        // 复制一份避免调用方后续修改集合
+        List<Long> revokeAccountIds = List.copyOf(accountIds);
+        // 事务提交后再吊销, 避免事务回滚后账户仍为有效状态却已被踢出
+        TransactionUtils.runAfterCommit(() -> revoke(revokeAccountIds));
+    }
+
+    /**
+     * 吊销指定账户的全部登录会话
+     *
+     * @param accountIds 需要吊销登录会话的账户 ID 集合
+     */
+    public void revoke(Collection<Long> accountIds) {
+        StpLogic stpLogic = StpUtil.getStpLogic();
+        SaTokenDao saTokenDao = SaManager.getSaTokenDao();
+        // 1. 一次读取所有账户的账户会话, 未登录的账户不存在账户会话, 不包含在结果内
+        List<String> sessionIds = accountIds.stream().map(stpLogic::splicingKeySession).toList();
+        Collection<SaSession> sessions = getSessions(saTokenDao, sessionIds);
+        // 2. 通过账户会话中的登录终端列表收集每个账户的全部 token 相关 key
+        List<String> keys = new ArrayList<>();
+        int tokenCount = 0;
+        for (SaSession session : sessions) {
+            for (SaTerminalInfo terminal : session.terminalListCopy()) {
+                String tokenValue = terminal.getTokenValue();
+                // token -> 登录 ID 映射、Token-Session 以及 token 最后活跃时间
+                keys.add(stpLogic.splicingKeyTokenValue(tokenValue));
+                keys.add(stpLogic.splicingKeyTokenSession(tokenValue));
+                keys.add(stpLogic.splicingKeyLastActiveTime(tokenValue));
+                tokenCount++;
+            }
+            // 账户会话本身, 其中缓存的当前用户信息随之一起移除
+            keys.add(session.getId());
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+        // 3. 持久层支持批量删除时一次删除全部 key, 否则逐个删除
+        if (saTokenDao instanceof BatchDeleteSaTokenDao batchDeleteSaTokenDao) {
+            batchDeleteSaTokenDao.deleteAll(keys);
+        } else {
+            keys.forEach(saTokenDao::delete);
+        }
+        log.info("已吊销账户登录会话, 账户 ID 为: {} , 吊销的 token 数量为: {}", accountIds, tokenCount);
+    }
+
+    /**
+     * 获取指定的账户会话, 持久层支持批量获取时一次获取, 否则逐个获取
+     *
+     * @param saTokenDao 持久层对象
+     * @param sessionIds 账户会话 ID 集合
+     * @return 存在的账户会话集合
+     */
+    private Collection<SaSession> getSessions(SaTokenDao saTokenDao, List<String> sessionIds) {
+        if (saTokenDao instanceof BatchGetSessionSaTokenDao batchGetSessionSaTokenDao) {
+            return batchGetSessionSaTokenDao.getSessionAll(sessionIds).values();
+        }
+        return sessionIds.stream().map(saTokenDao::getSession).filter(Objects::nonNull).toList();
+    }
+}
@@ -2,12 +2,19 @@ package com.ranyk.authorization.service.login;
 
 import cn.dev33.satoken.stp.SaTokenInfo;
 import cn.dev33.satoken.stp.StpUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.crypto.digest.DigestUtil;
+import com.ranyk.authorization.service.account.AccountNameFilterService;
 import com.ranyk.authorization.service.account.AccountService;
-import com.ranyk.authorization.service.user.UserService;
+import com.ranyk.authorization.service.permissions.AccountAuthorizationService;
+import com.ranyk.authorization.service.user.CurrentUserSessionService;
+import com.ranyk.core.utils.SingleFlight;
 import com.ranyk.model.business.account.dto.AccountDTO;
-import com.ranyk.model.business.userinfo.dto.UserBaseDTO;
 import com.ranyk.model.exception.user.UserException;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.util.Objects;
@@ -20,6 +27,7 @@ import java.util.Objects;
  * @description: 登录业务逻辑类
  * @date: 2025-10-10
  */
+@Slf4j
 @Service
 public class LoginService {
 
@@ -28,21 +36,53 @@ public class LoginService {
      */
     private final AccountService accountService;
     /**
-     * 用户信息业务逻辑对象
+     * 账户授权信息业务逻辑对象
      */
-    private final UserService userService;
+    private final AccountAuthorizationService accountAuthorizationService;
+    /**
+     * 当前用户信息会话缓存业务逻辑对象
+     */
+    private final CurrentUserSessionService currentUserSessionService;
+    /**
+     * 应用异步任务执行器对象, 用于登录后异步预热账户授权信息
+     */
+    private final AsyncTaskExecutor applicationTaskExecutor;
+    /**
+     * 登录限流业务逻辑对象
+     */
+    private final LoginThrottleService loginThrottleService;
+    /**
+     * 账户名布隆过滤器业务逻辑对象
+     */
+    private final AccountNameFilterService accountNameFilterService;
+    /**
+     * 按登录凭证合并并发的登录账户查询, 相同账户名和密码的并发登录只查询一次
+     */
+    private final SingleFlight<String, AccountDTO> loginSingleFlight = new SingleFlight<>();
 
     /**
      * 构造方法
      *
-     * @param accountService 账户业务逻辑对象
-     * @param userService    用户信息业务逻辑对象
+     * @param accountService              账户业务逻辑对象
+     * @param accountAuthorizationService 账户授权信息业务逻辑对象
+     * @param currentUserSessionService   当前用户信息会话缓存业务逻辑对象
+     * @param applicationTaskExecutor     应用异步任务执行器对象
+     * @param loginThrottleService        登录限流业务逻辑对象
+     * @param accountNameFilterService    账户名布隆过滤器业务逻辑对象
      */
     @Autowired
     public LoginService(AccountService accountService,
-                        UserService userService) {
+                        AccountAuthorizationService accountAuthorizationService,
+                        CurrentUserSessionService currentUserSessionService,
+                        @Qualifier("applicationTaskExecutor") AsyncTaskExecutor applicationTaskExecutor,
+                        LoginThrottleService loginThrottleService,
+                        AccountNameFilterService accountNameFilterService) {
         this.accountService = accountService;
-        this.userService = userService;
+        this.accountAuthorizationService = accountAuthorizationService;
+        this.currentUserSessionService = currentUserSessionService;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+        this.loginThrottleService = loginThrottleService;
+        this.accountNameFilterService = accountNameFilterService;
     }
 
 
@@ -53,8 +93,16 @@ public class LoginService {
      * @return 登录结果数据传输对象 {@link AccountDTO}, 此返回对象和入参是两个对象,故不能混为一谈
      */
     public AccountDTO login(AccountDTO accountDTO) {
-        // 通过传入的用户名和密码进行账户户对象的查询
-        AccountDTO queryAccountDTO = accountService.queryLoginAccountByUserNameAndPassword(accountDTO);
+        // 先进行登录限流校验, 超出频率的请求不查询数据库也不计算密码摘要
+        loginThrottleService.check(accountDTO.getUserName());
+        // 布隆过滤器判定账户名一定不存在时, 无需计算密码摘要和查询数据库
+        if (!accountNameFilterService.mightExist(accountDTO.getUserName())) {
+            throw new UserException("user.password.not.match");
+        }
+        // 通过传入的用户名和密码进行账户对象的查询, 同时一次性查出账户关联的用户头像和用户名称
+        // 客户端重试产生的相同凭证并发登录共享同一次查询结果, 每个请求仍各自登录并获得自己的 token; 合并 key 使用密码摘要, 避免明文密码驻留在内存中
+        String singleFlightKey = accountDTO.getUserName() + '\u0000' + DigestUtil.md5Hex(StrUtil.nullToEmpty(accountDTO.getPassword()));
+        AccountDTO queryAccountDTO = loginSingleFlight.execute(singleFlightKey, () -> accountService.queryLoginAccountWithUserInfo(accountDTO));
         // 判断是否存在用户 id
         if (Objects.isNull(queryAccountDTO.getId())) {
             // 不存在用户 id 则抛出用户登录异常
@@ -64,11 +112,30 @@ public class LoginService {
         StpUtil.login(queryAccountDTO.getId());
         // 获取本次登录的 token 对象
         SaTokenInfo tokenInfo = StpUtil.getTokenInfo();
-        // 获取当前登录账户有关的用户信息 ID
-        AccountDTO userInfoDTO = accountService.queryUserInfoIdByAccountId(AccountDTO.builder().id(queryAccountDTO.getId()).build());
-        // 获取当前登录账户有关的用户信息
-        UserBaseDTO userBaseDTO = userService.queryUserInfoById(UserBaseDTO.builder().id(userInfoDTO.getUserInfoId()).build());
+        // 异步预热当前登录账户的授权信息和用户信息到账户会话中, 登录响应不等待其加载
+        warmUpAccountSession(queryAccountDTO.getId());
         // 返回登录结果数据传输对象, 此对象中存在用户的登录 token
-        return AccountDTO.builder().tokenName(tokenInfo.getTokenName()).tokenValue(tokenInfo.getTokenValue()).userName(queryAccountDTO.getUserName()).avatar(userBaseDTO.getAvatar()).userAccount(userBaseDTO.getUserName()).build();
+        return AccountDTO.builder().tokenName(tokenInfo.getTokenName()).tokenValue(tokenInfo.getTokenValue()).userName(queryAccountDTO.getUserName()).avatar(queryAccountDTO.getAvatar()).userAccount(queryAccountDTO.getUserAccount()).build();
+    }
+
+    /**
+     * 异步预热指定账户会话中的授权信息和用户信息, 预热失败不影响登录, 后续使用时会重新加载
+     *
+     * @param accountId 账户 ID
+     */
+    private void warmUpAccountSession(Long accountId) {
+        try {
+            applicationTaskExecutor.execute(() -> {
+                try {
+                    accountAuthorizationService.getAccountAuthorization(accountId);
+                    currentUserSessionService.get(accountId);
+                } catch (Exception e) {
+                    log.warn("账户 ID 为 {} 的会话信息预热失败, 失败原因: {}", accountId, e.getMessage());
+                }
+            });
+        } catch (Exception e) {
+            // 执行器拒绝任务时同样不影响登录
+            log.warn("账户 ID 为 {} 的会话信息预热任务提交失败, 失败原因: {}", accountId, e.getMessage());
+        }
     }
 }
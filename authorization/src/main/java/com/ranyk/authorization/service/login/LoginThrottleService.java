@@ -0,0 +1,134 @@
+package com.ranyk.authorization.service.login;
+
+import cn.hutool.core.util.StrUtil;
+import com.ranyk.authorization.config.properties.AuthorizationConfigurationProperties;
+import com.ranyk.cache.limiter.RateLimiter;
+import com.ranyk.model.exception.user.UserException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CLASS_NAME: LoginThrottleService.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 登录限流业务逻辑类, 分别按客户端 IP 和登录账户名进行令牌桶限流, 在查询数据库和计算密码摘要之前拒绝超出频率的登录请求
+ * @date: 2026-10-18
+ */
+@Slf4j
+@Service
+public class LoginThrottleService {
+
+    /**
+     * 按客户端 IP 限流的 key 前缀
+     */
+    private static final String IP_KEY_PREFIX = "login:ip:";
+    /**
+     * 按登录账户名限流的 key 前缀
+     */
+    private static final String USER_NAME_KEY_PREFIX = "login:user:";
+    /**
+     * 令牌桶限流器对象
+     */
+    private final RateLimiter rateLimiter;
+    /**
+     * 授权配置属性对象
+     */
+    private final AuthorizationConfigurationProperties authorizationConfigurationProperties;
+    /**
+     * 因客户端 IP 超出频率被拒绝的登录次数
+     */
+    private final LongAdder ipRejectedCount = new LongAdder();
+    /**
+     * 因登录账户名超出频率被拒绝的登录次数
+     */
+    private final LongAdder userNameRejectedCount = new LongAdder();
+
+    /**
+     * 构造方法
+     *
+     * @param rateLimiter                          令牌桶限流器对象
+     * @param authorizationConfigurationProperties 授权配置属性对象
+     */
+    @Autowired
+    public LoginThrottleService(RateLimiter rateLimiter,
+                                AuthorizationConfigurationProperties authorizationConfigurationProperties) {
+        this.rateLimiter = rateLimiter;
+        this.authorizationConfigurationProperties = authorizationConfigurationProperties;
+    }
+
+    /**
+     * 校验本次登录请求是否超出频率, 超出时抛出用户异常
+     *
+     * @param userName 登录账户名
+     */
+    public void check(String userName) {
+        if (!authorizationConfigurationProperties.getLoginRateLimitEnabled()) {
+            return;
+        }
+        // 1. 按客户端 IP 限流, 限制同一来源对大量账户名的尝试
+        String clientIp = resolveClientIp();
+        if (Objects.nonNull(clientIp) && !rateLimiter.tryAcquire(IP_KEY_PREFIX + clientIp,
+                authorizationConfigurationProperties.getLoginIpCapacity(),
+                authorizationConfigurationProperties.getLoginIpRefillPerMinute() / 60D)) {
+            ipRejectedCount.increment();
+            log.warn("客户端 IP {} 登录过于频繁, 已拒绝本次登录, 累计拒绝次数: {}", clientIp, ipRejectedCount.sum());
+            throw new UserException("rate.limiter.message");
+        }
+        // 2. 按登录账户名限流, 限制对同一账户名的密码尝试
+        if (Objects.nonNull(userName) && !rateLimiter.tryAcquire(USER_NAME_KEY_PREFIX + userName,
+                authorizationConfigurationProperties.getLoginUserNameCapacity(),
+                authorizationConfigurationProperties.getLoginUserNameRefillPerMinute() / 60D)) {
+            userNameRejectedCount.increment();
+            log.warn("账户名 {} 登录过于频繁, 已拒绝本次登录, 累计拒绝次数: {}", userName, userNameRejectedCount.sum());
+            throw new UserException("rate.limiter.message");
+        }
+    }
+
+    /**
+     * 获取因客户端 IP 超出频率被拒绝的累计登录次数
+     *
+     * @return 累计拒绝次数
+     */
+    public long getIpRejectedCount() {
+        return ipRejectedCount.sum();
+    }
+
+    /**
+     * 获取因登录账户名超出频率被拒绝的累计登录次数
+     *
+     * @return 累计拒绝次数
+     */
+    public long getUserNameRejectedCount() {
+        return userNameRejectedCount.sum();
+    }
+
+    /**
+     * 获取当前请求的客户端 IP; 默认使用连接的远端地址, 客户端可任意伪造的请求头只在请求来自受信任的代理时读取
+     *
+     * @return 客户端 IP, 当前线程未绑定请求时为 null
+     */
+    private String resolveClientIp() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes servletRequestAttributes)) {
+            return null;
+        }
+        // 1. 请求不是来自受信任的代理时, 直接使用连接的远端地址
+        HttpServletRequest request = servletRequestAttributes.getRequest();
+        String remoteAddr = request.getRemoteAddr();
+        String header = authorizationConfigurationProperties.getLoginClientIpHeader();
+        if (StrUtil.isBlank(header) || !authorizationConfigurationProperties.getLoginTrustedProxies().contains(remoteAddr)) {
+            return remoteAddr;
+        }
+        // 2. 取请求头中最后一个地址, 即受信任的代理追加的地址, 之前的地址可能被客户端伪造
+        List<String> forwarded = StrUtil.splitTrim(request.getHeader(header), ',');
+        return forwarded.isEmpty() ? remoteAddr : forwarded.getLast();
+    }
+}
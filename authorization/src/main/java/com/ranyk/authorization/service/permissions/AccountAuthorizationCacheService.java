@@ -0,0 +1,183 @@
+package com.ranyk.authorization.service.permissions;
+
+import cn.hutool.core.collection.CollUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ranyk.authorization.config.properties.AuthorizationConfigurationProperties;
+import com.ranyk.authorization.event.AccountAuthorizationChangedEvent;
+import com.ranyk.cache.bus.InvalidationBus;
+import com.ranyk.core.utils.TransactionUtils;
+import com.ranyk.model.business.permission.dto.AccountAuthorizationDTO;
+import com.ranyk.model.business.permission.dto.AccountAuthorizationStampDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * CLASS_NAME: AccountAuthorizationCacheService.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 账户授权信息缓存业务逻辑类, 按账户缓存已解析的权限代码集合和角色代码集合, 缓存容量有上限且写入后定时失效;
+ * 缓存移除通过缓存失效消息总线广播, 所有节点同时移除受影响账户的缓存; 授权纪元只在发布消息前由发布节点递增一次;
+ * 缓存数据带有加载前读取的授权纪元, 纪元早于调用方读取的当前纪元时视为失效, 纪元已递增而本节点尚未收到缓存失效消息时也不会返回旧数据
+ * @date: 2026-10-18
+ */
+@Slf4j
+@Service
+public class AccountAuthorizationCacheService {
+
+    /**
+     * 账户授权信息在缓存失效消息总线中的缓存区域
+     */
+    public static final String INVALIDATION_REGION = "account-authorization";
+    /**
+     * 表示移除所有账户授权信息缓存的缓存失效消息 key
+     */
+    private static final String ALL_ACCOUNTS_KEY = "*";
+    /**
+     * 授权配置属性对象
+     */
+    private final AuthorizationConfigurationProperties authorizationConfigurationProperties;
+    /**
+     * 带授权纪元戳的账户授权信息缓存对象, key 为账户 ID
+     */
+    private final Cache<@NonNull Long, AccountAuthorizationStampDTO> accountAuthorizationCache;
+    /**
+     * 应用事件发布对象
+     */
+    private final ApplicationEventPublisher applicationEventPublisher;
+    /**
+     * 缓存失效消息总线对象
+     */
+    private final InvalidationBus invalidationBus;
+    /**
+     * 授权纪元业务逻辑类对象
+     */
+    private final AuthorizationEpochService authorizationEpochService;
+
+    /**
+     * 构造函数
+     *
+     * @param authorizationConfigurationProperties 授权配置属性对象
+     * @param applicationEventPublisher            应用事件发布对象
+     * @param invalidationBus                      缓存失效消息总线对象
+     * @param authorizationEpochService            授权纪元业务逻辑类对象
+     */
+    @Autowired
+    public AccountAuthorizationCacheService(AuthorizationConfigurationProperties authorizationConfigurationProperties,
+                                            ApplicationEventPublisher applicationEventPublisher,
+                                            InvalidationBus invalidationBus,
+                                            AuthorizationEpochService authorizationEpochService) {
+        this.authorizationConfigurationProperties = authorizationConfigurationProperties;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.invalidationBus = invalidationBus;
+        this.authorizationEpochService = authorizationEpochService;
+        this.accountAuthorizationCache = Caffeine.newBuilder()
+                // 缓存的最大账户数
+                .maximumSize(authorizationConfigurationProperties.getPermissionCacheMaxSize())
+                // 写入后超过指定时间自动失效
+                .expireAfterWrite(Duration.ofSeconds(authorizationConfigurationProperties.getPermissionCacheTimeout()))
+                // 开启统计功能
+                .recordStats()
+                .build();
+        // 订阅账户授权信息的缓存失效消息, 包含本节点和其他节点发布的消息
+        invalidationBus.subscribe(INVALIDATION_REGION, this::evictLocal);
+    }
+
+    /**
+     * 获取指定账户的授权信息, 缓存未命中或缓存数据的授权纪元早于指定纪元时通过传入的加载函数加载并放入缓存
+     *
+     * @param accountId 账户 ID
+     * @param epoch     调用方读取的账户当前授权纪元
+     * @param loader    缓存未命中时的授权信息加载函数
+     * @return 账户授权信息 {@link AccountAuthorizationDTO}
+     */
+    public AccountAuthorizationDTO get(Long accountId, long epoch, Function<Long, AccountAuthorizationDTO> loader) {
+        // 1. 未启用缓存时, 直接加载
+        if (!authorizationConfigurationProperties.getPermissionCacheEnabled()) {
+            return loader.apply(accountId);
+        }
+        // 2. 缓存数据的授权纪元不早于当前纪元时直接返回
+        AccountAuthorizationStampDTO stamp = accountAuthorizationCache.getIfPresent(accountId);
+        if (Objects.nonNull(stamp) && stamp.getEpoch() >= epoch) {
+            return stamp.getAccountAuthorization();
+        }
+        // 3. 重新加载并带上当前纪元放入缓存, 并发写入时保留纪元较新的数据
+        AccountAuthorizationDTO accountAuthorizationDTO = loader.apply(accountId);
+        accountAuthorizationCache.asMap().merge(accountId, AccountAuthorizationStampDTO.builder().epoch(epoch).accountAuthorization(accountAuthorizationDTO).build(),
+                (existing, loaded) -> existing.getEpoch() > loaded.getEpoch() ? existing : loaded);
+        return accountAuthorizationDTO;
+    }
+
+    /**
+     * 在当前事务提交后移除指定账户的授权信息缓存, 不存在事务时立即移除
+     *
+     * @param accountIds 需要移除授权信息缓存的账户 ID 集合
+     */
+    public void evictAfterCommit(Collection<Long> accountIds) {
+        if (CollUtil.isEmpty(accountIds)) {
+            return;
+        }
+        // 转换为缓存失效消息 key, 同时复制一份避免调用方后续修改集合
+        publishAfterCommit(accountIds.stream().map(String::valueOf).collect(Collectors.toSet()));
+    }
+
+    /**
+     * 在当前事务提交后移除所有账户的授权信息缓存, 不存在事务时立即移除; 用于无法确定受影响账户的批量变更
+     */
+    public void evictAllAfterCommit() {
+        publishAfterCommit(Set.of(ALL_ACCOUNTS_KEY));
+    }
+
+    /**
+     * 在当前事务提交后递增受影响账户的授权纪元, 并通过缓存失效消息总线广播缓存失效消息, 不存在事务时立即执行
+     *
+     * @param keys 缓存失效消息 key 集合
+     */
+    private void publishAfterCommit(Set<String> keys) {
+        // 事务提交后再移除, 避免并发请求在事务提交前将旧数据重新加载进缓存
+        TransactionUtils.runAfterCommit(() -> publish(keys));
+    }
+
+    /**
+     * 递增受影响账户的授权纪元后广播缓存失效消息; 纪元只在发布节点递增一次, 各节点收到消息时只移除本节点的缓存
+     *
+     * @param keys 缓存失效消息 key 集合, 为账户 ID 或表示所有账户的 *
+     */
+    private void publish(Set<String> keys) {
+        if (keys.contains(ALL_ACCOUNTS_KEY)) {
+            authorizationEpochService.bumpGlobal();
+        } else {
+            authorizationEpochService.bumpAccounts(keys.stream().map(Long::valueOf).collect(Collectors.toSet()));
+        }
+        invalidationBus.publish(INVALIDATION_REGION, keys);
+    }
+
+    /**
+     * 处理缓存失效消息: 移除本节点受影响账户的授权信息缓存, 并发布账户授权信息变更事件
+     *
+     * @param keys 缓存失效消息 key 集合, 为账户 ID 或表示所有账户的 *
+     */
+    private void evictLocal(Set<String> keys) {
+        if (keys.contains(ALL_ACCOUNTS_KEY)) {
+            accountAuthorizationCache.invalidateAll();
+            log.info("已移除所有账户授权信息缓存");
+            applicationEventPublisher.publishEvent(new AccountAuthorizationChangedEvent(this, Set.of(), true));
+            return;
+        }
+        Set<Long> accountIds = keys.stream().map(Long::valueOf).collect(Collectors.toSet());
+        accountAuthorizationCache.invalidateAll(accountIds);
+        log.info("已移除账户授权信息缓存, 账户 ID 为: {}", accountIds);
+        applicationEventPublisher.publishEvent(new AccountAuthorizationChangedEvent(this, accountIds, false));
+    }
+}
@@ -0,0 +1,67 @@
+package com.ranyk.authorization.service.permissions;
+
+import com.ranyk.model.business.permission.dto.AccountAuthorizationDTO;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * CLASS_NAME: AccountAuthorizationRequestMemoService.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 请求级账户授权信息记忆业务逻辑类, 将已解析的账户授权信息保存在当前请求的属性中, 保证同一请求内同一账户的授权信息最多解析一次, 请求结束后随请求一起释放
+ * @date: 2026-10-18
+ */
+@Service
+public class AccountAuthorizationRequestMemoService {
+
+    /**
+     * 账户授权信息在请求属性中的存放 key 前缀
+     */
+    private static final String REQUEST_ATTRIBUTE_PREFIX = AccountAuthorizationRequestMemoService.class.getName() + ".";
+    /**
+     * 未命中请求级记忆, 实际执行授权信息解析的次数
+     */
+    private final LongAdder resolveCount = new LongAdder();
+
+    /**
+     * 获取指定账户的授权信息, 同一请求内优先返回已解析的结果; 当前线程未绑定请求时, 直接执行解析
+     *
+     * @param accountId 账户 ID
+     * @param resolver  请求内未命中时的授权信息解析函数
+     * @return 账户授权信息 {@link AccountAuthorizationDTO}
+     */
+    public AccountAuthorizationDTO get(Long accountId, Function<Long, AccountAuthorizationDTO> resolver) {
+        // 1. 获取当前线程绑定的请求属性, 未绑定请求时(如异步线程、定时任务)直接解析
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (Objects.isNull(requestAttributes)) {
+            resolveCount.increment();
+            return resolver.apply(accountId);
+        }
+        // 2. 当前请求内已解析过该账户时, 直接返回
+        String attributeName = REQUEST_ATTRIBUTE_PREFIX + accountId;
+        Object memo = requestAttributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+        if (memo instanceof AccountAuthorizationDTO accountAuthorizationDTO) {
+            return accountAuthorizationDTO;
+        }
+        // 3. 解析授权信息并保存到当前请求中
+        resolveCount.increment();
+        AccountAuthorizationDTO accountAuthorizationDTO = resolver.apply(accountId);
+        requestAttributes.setAttribute(attributeName, accountAuthorizationDTO, RequestAttributes.SCOPE_REQUEST);
+        return accountAuthorizationDTO;
+    }
+
+    /**
+     * 获取未命中请求级记忆, 实际执行授权信息解析的累计次数
+     *
+     * @return 累计解析次数
+     */
+    public long getResolveCount() {
+        return resolveCount.sum();
+    }
+}
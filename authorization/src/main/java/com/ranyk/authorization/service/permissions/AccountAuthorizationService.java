@@ -0,0 +1,135 @@
+package com.ranyk.authorization.service.permissions;
+
+import com.ranyk.core.utils.SingleFlight;
+import com.ranyk.model.business.permission.dto.AccountAuthorizationDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+
+/**
+ * CLASS_NAME: AccountAuthorizationService.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 账户授权信息业务逻辑类, 统一提供账户授权信息的获取以及权限、角色的判断
+ * @date: 2026-10-18
+ */
+@Service
+public class AccountAuthorizationService {
+
+    /**
+     * 权限信息业务逻辑类对象
+     */
+    private final PermissionsService permissionsService;
+    /**
+     * 账户授权信息缓存业务逻辑类对象
+     */
+    private final AccountAuthorizationCacheService accountAuthorizationCacheService;
+    /**
+     * 请求级账户授权信息记忆业务逻辑类对象
+     */
+    private final AccountAuthorizationRequestMemoService accountAuthorizationRequestMemoService;
+    /**
+     * 权限索引注册表业务逻辑类对象
+     */
+    private final PermissionIndexRegistryService permissionIndexRegistryService;
+    /**
+     * 授权信息快照业务逻辑类对象
+     */
+    private final AuthorizationSnapshotService authorizationSnapshotService;
+    /**
+     * 授权纪元业务逻辑类对象
+     */
+    private final AuthorizationEpochService authorizationEpochService;
+    /**
+     * 按账户合并并发的授权信息解析, 同一账户同时只解析一次
+     */
+    private final SingleFlight<Long, AccountAuthorizationDTO> resolveSingleFlight = new SingleFlight<>();
+
+    /**
+     * 构造函数
+     *
+     * @param permissionsService                     权限信息业务逻辑类对象
+     * @param accountAuthorizationCacheService       账户授权信息缓存业务逻辑类对象
+     * @param accountAuthorizationRequestMemoService 请求级账户授权信息记忆业务逻辑类对象
+     * @param permissionIndexRegistryService         权限索引注册表业务逻辑类对象
+     * @param authorizationSnapshotService           授权信息快照业务逻辑类对象
+     * @param authorizationEpochService              授权纪元业务逻辑类对象
+     */
+    @Autowired
+    public AccountAuthorizationService(PermissionsService permissionsService,
+                                       AccountAuthorizationCacheService accountAuthorizationCacheService,
+                                       AccountAuthorizationRequestMemoService accountAuthorizationRequestMemoService,
+                                       PermissionIndexRegistryService permissionIndexRegistryService,
+                                       AuthorizationSnapshotService authorizationSnapshotService,
+                                       AuthorizationEpochService authorizationEpochService) {
+        this.permissionsService = permissionsService;
+        this.accountAuthorizationCacheService = accountAuthorizationCacheService;
+        this.accountAuthorizationRequestMemoService = accountAuthorizationRequestMemoService;
+        this.permissionIndexRegistryService = permissionIndexRegistryService;
+        this.authorizationSnapshotService = authorizationSnapshotService;
+        this.authorizationEpochService = authorizationEpochService;
+    }
+
+    /**
+     * 获取指定账户的授权信息, 依次从 当前请求记忆 -> 授权信息快照 -> 账户会话(纪元戳一致时) -> 账户授权信息缓存 -> 数据库 中获取
+     *
+     * @param accountId 账户 ID
+     * @return 账户授权信息 {@link AccountAuthorizationDTO}
+     */
+    public AccountAuthorizationDTO getAccountAuthorization(Long accountId) {
+        return accountAuthorizationRequestMemoService.get(accountId, id -> {
+            AccountAuthorizationDTO accountAuthorizationDTO = authorizationSnapshotService.get(id);
+            if (Objects.nonNull(accountAuthorizationDTO)) {
+                return accountAuthorizationDTO;
+            }
+            // 同一账户的并发请求(如客户端重试)只解析一次, 共享解析结果
+            return resolveSingleFlight.execute(id, () -> authorizationEpochService.get(id, this::loadAccountAuthorization));
+        });
+    }
+
+    /**
+     * 从账户授权信息缓存中获取指定账户的授权信息, 未命中或缓存数据早于当前授权纪元时从数据库加载
+     *
+     * @param accountId 账户 ID
+     * @param epoch     账户当前授权纪元
+     * @return 账户授权信息 {@link AccountAuthorizationDTO}
+     */
+    private AccountAuthorizationDTO loadAccountAuthorization(Long accountId, Long epoch) {
+        return accountAuthorizationCacheService.get(accountId, epoch, permissionsService::getAccountAuthorizationByAccountId);
+    }
+
+    /**
+     * 判断指定账户是否拥有指定的权限代码
+     *
+     * @param accountId      账户 ID
+     * @param permissionCode 需要判断的权限代码
+     * @return 拥有返回 true; 否则返回 false;
+     */
+    public boolean hasPermission(Long accountId, String permissionCode) {
+        // 1. 获取该账户的授权信息
+        AccountAuthorizationDTO accountAuthorizationDTO = getAccountAuthorization(accountId);
+        // 2. 通过权限位图判断是否直接拥有该权限代码
+        if (permissionIndexRegistryService.contains(accountAuthorizationDTO.getPermissionBits(), permissionCode)) {
+            return true;
+        }
+        // 3. 拥有通配符权限代码时, 通过分段字典树判断
+        return Boolean.TRUE.equals(accountAuthorizationDTO.getContainsWildcardPermission())
+                && accountAuthorizationDTO.getWildcardPermissionTrie().matches(permissionCode);
+    }
+
+    /**
+     * 判断指定账户是否拥有指定的角色代码
+     *
+     * @param accountId 账户 ID
+     * @param roleCode  需要判断的角色代码
+     * @return 拥有返回 true; 否则返回 false;
+     */
+    public boolean hasRole(Long accountId, String roleCode) {
+        if (Objects.isNull(roleCode)) {
+            return false;
+        }
+        return getAccountAuthorization(accountId).getRoleCodes().contains(roleCode);
+    }
+}
@@ -0,0 +1,131 @@
+package com.ranyk.authorization.service.permissions;
+
+import cn.dev33.satoken.session.SaSession;
+import cn.dev33.satoken.stp.StpUtil;
+import com.ranyk.cache.epoch.EpochCounter;
+import com.ranyk.model.business.permission.dto.AccountAuthorizationDTO;
+import com.ranyk.model.business.permission.dto.AccountAuthorizationStampDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * CLASS_NAME: AuthorizationEpochService.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 授权纪元业务逻辑类, 维护全局授权纪元和账户授权纪元, 二者只增不减, 账户的当前纪元为两者之和;
+ * 已解析的账户授权信息带上纪元戳保存在账户会话中, 判断是否仍然有效只需一次整数比较, 纪元发生变化后才重新解析;
+ * 纪元保存在纪元计数器中, 启用 Redis 时所有节点共享; 纪元只由发布授权变更的节点原子递增一次, 接收缓存失效消息的节点不再递增;
+ * 权限位图的位置由本节点的权限索引注册表分配, 不同节点或重启后并不相同, 因此会话中只保存权限代码, 读取后按本节点的注册表重新编译权限位图
+ * @date: 2026-10-18
+ */
+@Service
+public class AuthorizationEpochService {
+
+    /**
+     * 全局授权纪元在纪元计数器中的 key
+     */
+    private static final String GLOBAL_EPOCH_KEY = "authorization:epoch:global";
+    /**
+     * 账户授权纪元在纪元计数器中的 key 前缀
+     */
+    private static final String ACCOUNT_EPOCH_KEY_PREFIX = "authorization:epoch:account:";
+    /**
+     * 带纪元戳的账户授权信息在账户会话中的 key
+     */
+    private static final String SESSION_AUTHORIZATION_KEY = "accountAuthorizationStamp";
+    /**
+     * 纪元计数器对象
+     */
+    private final EpochCounter epochCounter;
+    /**
+     * 权限索引注册表业务逻辑类对象
+     */
+    private final PermissionIndexRegistryService permissionIndexRegistryService;
+
+    /**
+     * 构造函数
+     *
+     * @param epochCounter                   纪元计数器对象
+     * @param permissionIndexRegistryService 权限索引注册表业务逻辑类对象
+     */
+    @Autowired
+    public AuthorizationEpochService(EpochCounter epochCounter, PermissionIndexRegistryService permissionIndexRegistryService) {
+        this.epochCounter = epochCounter;
+        this.permissionIndexRegistryService = permissionIndexRegistryService;
+    }
+
+    /**
+     * 获取指定账户的授权信息, 账户会话中的授权信息纪元与当前纪元一致时直接返回, 否则通过加载函数重新解析并写回会话; 账户未登录时直接加载
+     *
+     * @param accountId 账户 ID
+     * @param loader    会话中授权信息失效时的加载函数, 入参为 账户 ID 和 当前授权纪元, 加载结果不得早于该纪元
+     * @return 账户授权信息 {@link AccountAuthorizationDTO}
+     */
+    public AccountAuthorizationDTO get(Long accountId, BiFunction<Long, Long, AccountAuthorizationDTO> loader) {
+        // 1. 获取账户会话和当前纪元, 会话不存在时说明账户未登录, 不创建会话直接加载
+        SaSession session = StpUtil.getSessionByLoginId(accountId, false);
+        long epoch = currentEpoch(accountId);
+        if (Objects.isNull(session)) {
+            return loader.apply(accountId, epoch);
+        }
+        // 2. 会话中的授权信息纪元与当前纪元一致时, 按本节点的权限索引注册表编译权限位图后返回
+        if (session.get(SESSION_AUTHORIZATION_KEY) instanceof AccountAuthorizationStampDTO stamp && Objects.equals(stamp.getEpoch(), epoch)) {
+            return withPermissionBits(stamp.getAccountAuthorization(), permissionIndexRegistryService.toBits(stamp.getAccountAuthorization().getPermissionCodes()));
+        }
+        // 3. 重新加载并带上加载前读取的纪元写回会话, 加载期间纪元发生变化时下一次读取会再次加载; 权限位图只在本节点有效, 不写入会话
+        AccountAuthorizationDTO accountAuthorizationDTO = loader.apply(accountId, epoch);
+        session.set(SESSION_AUTHORIZATION_KEY, AccountAuthorizationStampDTO.builder().epoch(epoch).accountAuthorization(withPermissionBits(accountAuthorizationDTO, null)).build());
+        return accountAuthorizationDTO;
+    }
+
+    /**
+     * 复制账户授权信息并替换其权限位图
+     *
+     * @param accountAuthorizationDTO 账户授权信息
+     * @param permissionBits          权限位图, 为 null 时表示不携带权限位图
+     * @return 新的账户授权信息 {@link AccountAuthorizationDTO}
+     */
+    private AccountAuthorizationDTO withPermissionBits(AccountAuthorizationDTO accountAuthorizationDTO, long[] permissionBits) {
+        return AccountAuthorizationDTO.builder()
+                .accountId(accountAuthorizationDTO.getAccountId())
+                .permissionCodes(accountAuthorizationDTO.getPermissionCodes())
+                .roleCodes(accountAuthorizationDTO.getRoleCodes())
+                .permissionBits(permissionBits)
+                .containsWildcardPermission(accountAuthorizationDTO.getContainsWildcardPermission())
+                .wildcardPermissionTrie(accountAuthorizationDTO.getWildcardPermissionTrie())
+                .build();
+    }
+
+    /**
+     * 获取指定账户的当前授权纪元
+     *
+     * @param accountId 账户 ID
+     * @return 当前授权纪元, 为 全局授权纪元 + 账户授权纪元, 两者通过一次批量读取获取
+     */
+    public long currentEpoch(Long accountId) {
+        return epochCounter.get(List.of(GLOBAL_EPOCH_KEY, ACCOUNT_EPOCH_KEY_PREFIX + accountId)).stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * 递增指定账户的授权纪元
+     *
+     * @param accountIds 账户 ID 集合
+     */
+    public void bumpAccounts(Collection<Long> accountIds) {
+        epochCounter.increment(accountIds.stream().map(accountId -> ACCOUNT_EPOCH_KEY_PREFIX + accountId).toList());
+    }
+
+    /**
+     * 递增全局授权纪元, 所有账户会话中的授权信息随之失效
+     */
+    public void bumpGlobal() {
+        epochCounter.increment(List.of(GLOBAL_EPOCH_KEY));
+    }
+
+}
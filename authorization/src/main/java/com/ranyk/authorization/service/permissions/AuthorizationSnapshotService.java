@@ -0,0 +1,190 @@
+package com.ranyk.authorization.service.permissions;
+
+import com.ranyk.authorization.config.properties.AuthorizationConfigurationProperties;
+import com.ranyk.authorization.event.AccountAuthorizationChangedEvent;
+import com.ranyk.authorization.repository.account.AccountRepository;
+import com.ranyk.authorization.repository.account.AccountRoleConnectionRepository;
+import com.ranyk.authorization.repository.permissions.PermissionRepository;
+import com.ranyk.authorization.repository.role.RoleClosureRepository;
+import com.ranyk.authorization.repository.role.RolePermissionsConnectionRepository;
+import com.ranyk.authorization.repository.role.RoleRepository;
+import com.ranyk.common.constant.AccountStatusEnum;
+import com.ranyk.common.constant.PermissionsStatusEnum;
+import com.ranyk.common.constant.RoleStatusEnum;
+import com.ranyk.model.business.account.entity.Account;
+import com.ranyk.model.business.account.entity.AccountRoleConnection;
+import com.ranyk.model.business.permission.dto.AccountAuthorizationDTO;
+import com.ranyk.model.business.permission.entity.Permission;
+import com.ranyk.model.business.role.entity.Role;
+import com.ranyk.model.business.role.entity.RoleClosure;
+import com.ranyk.model.business.role.entity.RolePermissionConnection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * CLASS_NAME: AuthorizationSnapshotService.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 授权信息快照业务逻辑类, 启动时一次性加载全部有效的 账户、角色、权限 及其关联关系, 生成不可变的账户授权信息快照, 权限判断直接读取快照而无需访问数据库;
+ * 授权信息变更时只重新加载受影响的账户, 复制出新的快照后原子替换, 读取方始终无锁
+ * @date: 2026-10-18
+ */
+@Slf4j
+@Service
+public class AuthorizationSnapshotService {
+
+    /**
+     * 当前的授权信息快照, key 为账户 ID; 为 null 表示快照未加载或未启用
+     */
+    private final AtomicReference<Map<Long, AccountAuthorizationDTO>> snapshot = new AtomicReference<>();
+    /**
+     * 授权配置属性对象
+     */
+    private final AuthorizationConfigurationProperties authorizationConfigurationProperties;
+    /**
+     * 账户信息数据库操作类对象
+     */
+    private final AccountRepository accountRepository;
+    /**
+     * 角色信息数据库操作类对象
+     */
+    private final RoleRepository roleRepository;
+    /**
+     * 权限信息数据库操作类对象
+     */
+    private final PermissionRepository permissionRepository;
+    /**
+     * 账户角色关联信息数据库操作类对象
+     */
+    private final AccountRoleConnectionRepository accountRoleConnectionRepository;
+    /**
+     * 角色权限关联信息数据库操作类对象
+     */
+    private final RolePermissionsConnectionRepository rolePermissionsConnectionRepository;
+    /**
+     * 角色继承闭包信息数据库操作类对象
+     */
+    private final RoleClosureRepository roleClosureRepository;
+    /**
+     * 权限信息业务逻辑类对象
+     */
+    private final PermissionsService permissionsService;
+
+    /**
+     * 构造函数
+     *
+     * @param authorizationConfigurationProperties 授权配置属性对象
+     * @param accountRepository                    账户信息数据库操作类对象
+     * @param roleRepository                       角色信息数据库操作类对象
+     * @param permissionRepository                 权限信息数据库操作类对象
+     * @param accountRoleConnectionRepository      账户角色关联信息数据库操作类对象
+     * @param rolePermissionsConnectionRepository  角色权限关联信息数据库操作类对象
+     * @param roleClosureRepository                角色继承闭包信息数据库操作类对象
+     * @param permissionsService                   权限信息业务逻辑类对象
+     */
+    @Autowired
+    public AuthorizationSnapshotService(AuthorizationConfigurationProperties authorizationConfigurationProperties,
+                                        AccountRepository accountRepository,
+                                        RoleRepository roleRepository,
+                                        PermissionRepository permissionRepository,
+                                        AccountRoleConnectionRepository accountRoleConnectionRepository,
+                                        RolePermissionsConnectionRepository rolePermissionsConnectionRepository,
+                                        RoleClosureRepository roleClosureRepository,
+                                        PermissionsService permissionsService) {
+        this.authorizationConfigurationProperties = authorizationConfigurationProperties;
+        this.accountRepository = accountRepository;
+        this.roleRepository = roleRepository;
+        this.permissionRepository = permissionRepository;
+        this.accountRoleConnectionRepository = accountRoleConnectionRepository;
+        this.rolePermissionsConnectionRepository = rolePermissionsConnectionRepository;
+        this.roleClosureRepository = roleClosureRepository;
+        this.permissionsService = permissionsService;
+    }
+
+    /**
+     * 应用启动完成后加载全量授权信息快照, 需在角色继承闭包表重建之后执行
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        if (!authorizationConfigurationProperties.getAuthorizationSnapshotEnabled()) {
+            return;
+        }
+        // 1. 加载有效的角色、权限, 构建 ID -> 代码 映射
+        Map<Long, String> roleCodeMap = roleRepository.findByStatus(RoleStatusEnum.NORMAL.getCode()).stream().collect(Collectors.toMap(Role::getId, Role::getCode));
+        Map<Long, String> permissionCodeMap = permissionRepository.findByStatus(PermissionsStatusEnum.NORMAL.getCode()).stream().collect(Collectors.toMap(Permission::getId, Permission::getCode));
+        // 2. 加载关联关系, 构建 下级角色 -> 上级角色、角色 -> 权限、账户 -> 角色 映射
+        Map<Long, List<Long>> ancestorIdMap = roleClosureRepository.findAll().stream().collect(Collectors.groupingBy(RoleClosure::getDescendantId, Collectors.mapping(RoleClosure::getAncestorId, Collectors.toList())));
+        Map<Long, List<Long>> rolePermissionIdMap = rolePermissionsConnectionRepository.findAll().stream().collect(Collectors.groupingBy(RolePermissionConnection::getRoleId, Collectors.mapping(RolePermissionConnection::getPermissionId, Collectors.toList())));
+        Map<Long, List<Long>> accountRoleIdMap = accountRoleConnectionRepository.findAll().stream().collect(Collectors.groupingBy(AccountRoleConnection::getAccountId, Collectors.mapping(AccountRoleConnection::getRoleId, Collectors.toList())));
+        // 3. 为每个有效账户组装授权信息, 规则与 PermissionRepository#findAuthorizationCodeByAccountId 保持一致: 账户持有的角色及其上级角色均需有效
+        Map<Long, AccountAuthorizationDTO> accountAuthorizationMap = new HashMap<>();
+        accountRepository.findByStatus(AccountStatusEnum.ENABLED.getCode()).stream().map(Account::getId).forEach(accountId -> {
+            Set<String> roleCodes = new LinkedHashSet<>();
+            Set<String> permissionCodes = new LinkedHashSet<>();
+            accountRoleIdMap.getOrDefault(accountId, Collections.emptyList()).stream()
+                    .filter(roleCodeMap::containsKey)
+                    .flatMap(roleId -> ancestorIdMap.getOrDefault(roleId, Collections.emptyList()).stream())
+                    .filter(roleCodeMap::containsKey)
+                    .forEach(ancestorId -> {
+                        roleCodes.add(roleCodeMap.get(ancestorId));
+                        rolePermissionIdMap.getOrDefault(ancestorId, Collections.emptyList()).stream()
+                                .map(permissionCodeMap::get)
+                                .filter(Objects::nonNull)
+                                .forEach(permissionCodes::add);
+                    });
+            accountAuthorizationMap.put(accountId, permissionsService.buildAccountAuthorization(accountId, roleCodes, permissionCodes));
+        });
+        // 4. 发布快照
+        snapshot.set(Map.copyOf(accountAuthorizationMap));
+        log.info("授权信息快照加载完成, 账户数量为: {} , 角色数量为: {} , 权限数量为: {}", accountAuthorizationMap.size(), roleCodeMap.size(), permissionCodeMap.size());
+    }
+
+    /**
+     * 从快照中获取指定账户的授权信息
+     *
+     * @param accountId 账户 ID
+     * @return 账户授权信息 {@link AccountAuthorizationDTO}; 快照未加载或快照中不存在该账户时返回 null
+     */
+    public AccountAuthorizationDTO get(Long accountId) {
+        Map<Long, AccountAuthorizationDTO> current = snapshot.get();
+        return Objects.isNull(current) ? null : current.get(accountId);
+    }
+
+    /**
+     * 账户授权信息变更后, 重新加载受影响账户的授权信息并发布新的快照
+     *
+     * @param event 账户授权信息变更事件
+     */
+    @EventListener
+    public synchronized void onAccountAuthorizationChanged(AccountAuthorizationChangedEvent event) {
+        if (Objects.isNull(snapshot.get())) {
+            return;
+        }
+        // 所有账户的授权信息均已变化时, 重新加载全量快照
+        if (event.isAllAccounts()) {
+            load();
+            return;
+        }
+        // 1. 只重新加载仍有效的账户, 失效的账户从快照中移除
+        Map<Long, AccountAuthorizationDTO> slices = new HashMap<>();
+        accountRepository.findByIdIn(new ArrayList<>(event.getAccountIds())).stream()
+                .filter(account -> Objects.equals(account.getStatus(), AccountStatusEnum.ENABLED.getCode()))
+                .forEach(account -> slices.put(account.getId(), permissionsService.getAccountAuthorizationByAccountId(account.getId())));
+        // 2. 复制当前快照, 替换受影响的账户后原子发布
+        snapshot.updateAndGet(current -> {
+            Map<Long, AccountAuthorizationDTO> next = new HashMap<>(current);
+            event.getAccountIds().forEach(next::remove);
+            next.putAll(slices);
+            return Map.copyOf(next);
+        });
+        log.info("授权信息快照已更新, 重新加载的账户数量为: {} , 移除的账户数量为: {}", slices.size(), event.getAccountIds().size() - slices.size());
+    }
+}
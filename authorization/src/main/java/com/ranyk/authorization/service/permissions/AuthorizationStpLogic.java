@@ -0,0 +1,199 @@
+package com.ranyk.authorization.service.permissions;
+
+import cn.dev33.satoken.error.SaErrorCode;
+import cn.dev33.satoken.exception.NotPermissionException;
+import cn.dev33.satoken.exception.NotRoleException;
+import cn.dev33.satoken.stp.StpLogic;
+import cn.dev33.satoken.stp.StpUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * CLASS_NAME: AuthorizationStpLogic.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: Sa-Token 权限认证逻辑实现类, 单个权限判断改为通过账户权限位图完成, 不再对权限代码列表进行逐个字符串比较;
+ * 多个权限、角色的 And/Or 判断和校验(包含 @SaCheckPermission、@SaCheckRole 注解)同样交给账户授权信息业务逻辑类, 保证各个入口的判断规则一致
+ * @date: 2026-10-18
+ */
+@Service
+public class AuthorizationStpLogic extends StpLogic {
+
+    /**
+     * 账户授权信息业务逻辑类对象
+     */
+    private final AccountAuthorizationService accountAuthorizationService;
+
+    /**
+     * 构造函数
+     *
+     * @param accountAuthorizationService 账户授权信息业务逻辑类对象
+     */
+    @Autowired
+    public AuthorizationStpLogic(AccountAuthorizationService accountAuthorizationService) {
+        super(StpUtil.TYPE);
+        this.accountAuthorizationService = accountAuthorizationService;
+    }
+
+    /**
+     * 判断指定账号 id 是否拥有指定权限
+     *
+     * @param loginId    账号 id
+     * @param permission 权限码
+     * @return 拥有返回 true; 否则返回 false;
+     */
+    @Override
+    public boolean hasPermission(Object loginId, String permission) {
+        if (Objects.isNull(loginId)) {
+            return false;
+        }
+        return accountAuthorizationService.hasPermission(Long.valueOf(String.valueOf(loginId)), permission);
+    }
+
+    /**
+     * 判断指定账号 id 是否拥有指定角色
+     *
+     * @param loginId 账号 id
+     * @param role    角色标识
+     * @return 拥有返回 true; 否则返回 false;
+     */
+    @Override
+    public boolean hasRole(Object loginId, String role) {
+        if (Objects.isNull(loginId)) {
+            return false;
+        }
+        return accountAuthorizationService.hasRole(Long.valueOf(String.valueOf(loginId)), role);
+    }
+
+    /**
+     * 判断当前账号是否拥有指定的全部权限
+     *
+     * @param permissionArray 权限码数组
+     * @return 全部拥有返回 true; 否则返回 false;
+     */
+    @Override
+    public boolean hasPermissionAnd(String... permissionArray) {
+        if (!isLogin()) {
+            return false;
+        }
+        Object loginId = getLoginId();
+        return Objects.isNull(permissionArray) || Arrays.stream(permissionArray).allMatch(permission -> hasPermission(loginId, permission));
+    }
+
+    /**
+     * 判断当前账号是否拥有指定权限中的任意一个, 未登录时返回 false, 已登录且未指定权限时返回 true
+     *
+     * @param permissionArray 权限码数组
+     * @return 拥有任意一个返回 true; 否则返回 false;
+     */
+    @Override
+    public boolean hasPermissionOr(String... permissionArray) {
+        if (!isLogin()) {
+            return false;
+        }
+        Object loginId = getLoginId();
+        return Objects.isNull(permissionArray) || permissionArray.length == 0 || Arrays.stream(permissionArray).anyMatch(permission -> hasPermission(loginId, permission));
+    }
+
+    /**
+     * 校验当前账号是否拥有指定的全部权限, 未拥有时抛出第一个未拥有的权限码
+     *
+     * @param permissionArray 权限码数组
+     */
+    @Override
+    public void checkPermissionAnd(String... permissionArray) {
+        Object loginId = getLoginId();
+        if (Objects.isNull(permissionArray)) {
+            return;
+        }
+        for (String permission : permissionArray) {
+            if (!hasPermission(loginId, permission)) {
+                throw new NotPermissionException(permission, getLoginType()).setCode(SaErrorCode.CODE_11051);
+            }
+        }
+    }
+
+    /**
+     * 校验当前账号是否拥有指定权限中的任意一个, 都未拥有时抛出第一个权限码
+     *
+     * @param permissionArray 权限码数组
+     */
+    @Override
+    public void checkPermissionOr(String... permissionArray) {
+        Object loginId = getLoginId();
+        if (Objects.isNull(permissionArray) || permissionArray.length == 0) {
+            return;
+        }
+        if (Arrays.stream(permissionArray).noneMatch(permission -> hasPermission(loginId, permission))) {
+            throw new NotPermissionException(permissionArray[0], getLoginType()).setCode(SaErrorCode.CODE_11051);
+        }
+    }
+
+    /**
+     * 判断当前账号是否拥有指定的全部角色
+     *
+     * @param roleArray 角色标识数组
+     * @return 全部拥有返回 true; 否则返回 false;
+     */
+    @Override
+    public boolean hasRoleAnd(String... roleArray) {
+        if (!isLogin()) {
+            return false;
+        }
+        Object loginId = getLoginId();
+        return Objects.isNull(roleArray) || Arrays.stream(roleArray).allMatch(role -> hasRole(loginId, role));
+    }
+
+    /**
+     * 判断当前账号是否拥有指定角色中的任意一个, 未登录时返回 false, 已登录且未指定角色时返回 true
+     *
+     * @param roleArray 角色标识数组
+     * @return 拥有任意一个返回 true; 否则返回 false;
+     */
+    @Override
+    public boolean hasRoleOr(String... roleArray) {
+        if (!isLogin()) {
+            return false;
+        }
+        Object loginId = getLoginId();
+        return Objects.isNull(roleArray) || roleArray.length == 0 || Arrays.stream(roleArray).anyMatch(role -> hasRole(loginId, role));
+    }
+
+    /**
+     * 校验当前账号是否拥有指定的全部角色, 未拥有时抛出第一个未拥有的角色标识
+     *
+     * @param roleArray 角色标识数组
+     */
+    @Override
+    public void checkRoleAnd(String... roleArray) {
+        Object loginId = getLoginId();
+        if (Objects.isNull(roleArray)) {
+            return;
+        }
+        for (String role : roleArray) {
+            if (!hasRole(loginId, role)) {
+                throw new NotRoleException(role, getLoginType()).setCode(SaErrorCode.CODE_11041);
+            }
+        }
+    }
+
+    /**
+     * 校验当前账号是否拥有指定角色中的任意一个, 都未拥有时抛出第一个角色标识
+     *
+     * @param roleArray 角色标识数组
+     */
+    @Override
+    public void checkRoleOr(String... roleArray) {
+        Object loginId = getLoginId();
+        if (Objects.isNull(roleArray) || roleArray.length == 0) {
+            return;
+        }
+        if (Arrays.stream(roleArray).noneMatch(role -> hasRole(loginId, role))) {
+            throw new NotRoleException(roleArray[0], getLoginType()).setCode(SaErrorCode.CODE_11041);
+        }
+    }
+}
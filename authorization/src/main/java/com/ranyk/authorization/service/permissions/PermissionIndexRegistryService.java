@@ -0,0 +1,116 @@
+package com.ranyk.authorization.service.permissions;
+
+import com.ranyk.authorization.repository.permissions.PermissionRepository;
+import com.ranyk.common.constant.PermissionsStatusEnum;
+import com.ranyk.model.business.permission.entity.Permission;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CLASS_NAME: PermissionIndexRegistryService.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 权限索引注册表业务逻辑类, 为每个权限代码分配一个从 0 开始的连续整数索引, 账户拥有的权限以位图形式保存, 权限判断只需一次索引查找和一次位运算;
+ * 索引只增不减, 已分配的索引在应用运行期间不会变化, 因此已生成的账户权限位图始终有效
+ * @date: 2026-10-18
+ */
+@Slf4j
+@Service
+public class PermissionIndexRegistryService {
+
+    /**
+     * 权限代码 -> 权限索引 映射
+     */
+    private final Map<String, Integer> permissionIndexMap = new ConcurrentHashMap<>();
+    /**
+     * 下一个可分配的权限索引
+     */
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    /**
+     * 权限信息数据库操作类对象
+     */
+    private final PermissionRepository permissionRepository;
+
+    /**
+     * 构造函数
+     *
+     * @param permissionRepository 权限信息数据库操作类对象
+     */
+    @Autowired
+    public PermissionIndexRegistryService(PermissionRepository permissionRepository) {
+        this.permissionRepository = permissionRepository;
+    }
+
+    /**
+     * 应用启动完成后, 按权限 ID 顺序为所有有效权限预先分配索引
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        permissionRepository.findByStatus(PermissionsStatusEnum.NORMAL.getCode()).stream()
+                .sorted(Comparator.comparing(Permission::getId))
+                .map(Permission::getCode)
+                .filter(Objects::nonNull)
+                .forEach(this::register);
+        log.info("权限索引注册表初始化完成, 已注册权限代码数量为: {}", permissionIndexMap.size());
+    }
+
+    /**
+     * 注册权限代码, 已注册时返回原有索引
+     *
+     * @param permissionCode 权限代码
+     * @return 权限代码对应的索引
+     */
+    public int register(String permissionCode) {
+        return permissionIndexMap.computeIfAbsent(permissionCode, code -> nextIndex.getAndIncrement());
+    }
+
+    /**
+     * 将权限代码集合转换为权限位图, 未注册的权限代码会先进行注册
+     *
+     * @param permissionCodes 权限代码集合
+     * @return 权限位图
+     */
+    public long[] toBits(Collection<String> permissionCodes) {
+        long[] bits = new long[(nextIndex.get() >>> 6) + 1];
+        for (String permissionCode : permissionCodes) {
+            int index = register(permissionCode);
+            // 注册过程中可能有新分配的索引, 位图长度不足时扩容
+            if ((index >>> 6) >= bits.length) {
+                long[] newBits = new long[(index >>> 6) + 1];
+                System.arraycopy(bits, 0, newBits, 0, bits.length);
+                bits = newBits;
+            }
+            bits[index >>> 6] |= 1L << index;
+        }
+        return bits;
+    }
+
+    /**
+     * 判断权限位图中是否拥有指定的权限代码
+     *
+     * @param bits           权限位图
+     * @param permissionCode 需要判断的权限代码
+     * @return 拥有返回 true; 否则返回 false;
+     */
+    public boolean contains(long[] bits, String permissionCode) {
+        if (Objects.isNull(bits) || Objects.isNull(permissionCode)) {
+            return false;
+        }
+        Integer index = permissionIndexMap.get(permissionCode);
+        if (Objects.isNull(index) || (index >>> 6) >= bits.length) {
+            return false;
+        }
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+}
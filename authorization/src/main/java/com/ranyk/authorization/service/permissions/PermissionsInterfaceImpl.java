@@ -1,15 +1,10 @@
 package com.ranyk.authorization.service.permissions;
 
 import cn.dev33.satoken.stp.StpInterface;
-import com.ranyk.authorization.service.role.RoleService;
-import com.ranyk.model.business.permission.dto.PermissionsDTO;
-import com.ranyk.model.business.role.dto.RoleDTO;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * CLASS_NAME: PermissionsInterfaceImpl.java
@@ -22,24 +17,18 @@ import java.util.stream.Collectors;
 @Service
 public class PermissionsInterfaceImpl implements StpInterface {
     /**
-     * 角色信息业务逻辑类对象
+     * 账户授权信息业务逻辑类对象
      */
-    private final RoleService roleService;
-    /**
-     * 权限信息业务逻辑类对象
-     */
-    private final PermissionsService permissionsService;
+    private final AccountAuthorizationService accountAuthorizationService;
 
     /**
      * 构造函数
      *
-     * @param roleService       角色信息业务逻辑类对象
-     * @param permissionsService 权限信息业务逻辑类对象
+     * @param accountAuthorizationService 账户授权信息业务逻辑类对象
      */
     @Autowired
-    public PermissionsInterfaceImpl(RoleService roleService, PermissionsService permissionsService) {
-        this.roleService = roleService;
-        this.permissionsService = permissionsService;
+    public PermissionsInterfaceImpl(AccountAuthorizationService accountAuthorizationService) {
+        this.accountAuthorizationService = accountAuthorizationService;
     }
 
     /**
@@ -53,19 +42,8 @@ public class PermissionsInterfaceImpl implements StpInterface {
     public List<String> getPermissionList(Object loginId, String loginType) {
         // 1. 获取当前登录账户的账户 ID, 将其转换为 Long 类型
         Long longLoginId = Long.valueOf(String.valueOf(loginId));
-        // 2. 通过角色ID List 集合获取对应账户下的权限信息 List 集合
-        List<PermissionsDTO> permissionCodes = permissionsService.getPermissionListByAccountIds(PermissionsDTO.builder().accountId(longLoginId).build(), Boolean.FALSE);
-        // 3. 去掉 permissionCodes 中 permissionCode 重复的对象, 去重逻辑：保留第一个出现的相同permissionCode对象
-        return permissionCodes.stream()
-                .collect(Collectors.toMap(
-                        PermissionsDTO::getCode,
-                        Function.identity(),
-                        (existing, replacement) -> existing
-                ))
-                .values()
-                .stream()
-                .map(PermissionsDTO::getCode)
-                .toList();
+        // 2. 获取该账户的授权信息, 返回其中的权限代码集合
+        return List.copyOf(accountAuthorizationService.getAccountAuthorization(longLoginId).getPermissionCodes());
     }
 
     /**
@@ -79,25 +57,7 @@ public class PermissionsInterfaceImpl implements StpInterface {
     public List<String> getRoleList(Object loginId, String loginType) {
         // 1. 获取当前登录账户的账户 ID, 将其转换为 Long 类型
         Long longLoginId = Long.valueOf(String.valueOf(loginId));
-        // 2. 通过账户 ID 获取该账户下拥有的角色信息
-        List<RoleDTO> roleDTOList = roleService.getRoleListByAccountId(longLoginId);
-        // 3. 去掉 roleDTOList 中 roleCode 重复的对象, 去重逻辑：保留第一个出现的相同roleCode对象
-        List<RoleDTO> distinctRoleList = roleDTOList.stream()
-                // 以roleCode为键构建Map，重复键时保留第一个对象
-                .collect(Collectors.toMap(
-                        // 键：提取roleCode
-                        RoleDTO::getCode,
-                        // 值：当前RoleDTO对象
-                        Function.identity(),
-                        // 冲突策略：保留前者
-                        (existing, replacement) -> existing
-                ))
-                // 提取Map的值并转换为List（JDK 21中Collection.stream()和toList()保持兼容）
-                .values()
-                .stream()
-                // JDK 16+ 引入的 toList()，返回不可变列表；若需可变列表可改用Collectors.toList()
-                .toList();
-        // 4. 返回角色标识集合
-        return distinctRoleList.stream().map(RoleDTO::getCode).toList();
+        // 2. 获取该账户的授权信息, 返回其中的角色代码集合
+        return List.copyOf(accountAuthorizationService.getAccountAuthorization(longLoginId).getRoleCodes());
     }
 }
@@ -4,12 +4,17 @@ import cn.dev33.satoken.stp.StpUtil;
 import cn.hutool.core.bean.BeanUtil;
 import cn.hutool.core.collection.CollUtil;
 import cn.hutool.core.util.StrUtil;
+import com.ranyk.authorization.repository.permissions.AccountAuthorizationCodeView;
 import com.ranyk.authorization.repository.permissions.PermissionRepository;
 import com.ranyk.authorization.service.account.AccountRoleConnectionService;
+import com.ranyk.authorization.service.role.RoleClosureService;
 import com.ranyk.authorization.service.role.RolePermissionsConnectionService;
 import com.ranyk.common.constant.AccountPermissionEnum;
 import com.ranyk.common.constant.PermissionsStatusEnum;
+import com.ranyk.common.constant.RoleStatusEnum;
 import com.ranyk.model.business.account.dto.AccountRoleConnectionDTO;
+import com.ranyk.model.business.permission.dto.AccountAuthorizationDTO;
+import com.ranyk.model.business.permission.dto.PermissionSegmentTrie;
 import com.ranyk.model.business.permission.dto.PermissionsDTO;
 import com.ranyk.model.business.permission.entity.Permission;
 import com.ranyk.model.business.permission.vo.PermissionsVO;
@@ -56,6 +61,18 @@ public class PermissionsService {
      * 账户角色关联信息业务逻辑类对象
      */
     private final AccountRoleConnectionService accountRoleConnectionService;
+    /**
+     * 账户授权信息缓存业务逻辑类对象
+     */
+    private final AccountAuthorizationCacheService accountAuthorizationCacheService;
+    /**
+     * 权限索引注册表业务逻辑类对象
+     */
+    private final PermissionIndexRegistryService permissionIndexRegistryService;
+    /**
+     * 角色继承闭包业务逻辑类对象
+     */
+    private final RoleClosureService roleClosureService;
 
     /**
      * 构造函数
@@ -63,14 +80,23 @@ public class PermissionsService {
      * @param permissionRepository             权限信息数据库操作类对象
      * @param rolePermissionsConnectionService 角色权限关联信息业务逻辑类对象
      * @param accountRoleConnectionService     账户角色关联信息业务逻辑类对象
+     * @param accountAuthorizationCacheService 账户授权信息缓存业务逻辑类对象
+     * @param permissionIndexRegistryService   权限索引注册表业务逻辑类对象
+     * @param roleClosureService               角色继承闭包业务逻辑类对象
      */
     @Autowired
     public PermissionsService(PermissionRepository permissionRepository,
                               RolePermissionsConnectionService rolePermissionsConnectionService,
-                              AccountRoleConnectionService accountRoleConnectionService) {
+                              AccountRoleConnectionService accountRoleConnectionService,
+                              AccountAuthorizationCacheService accountAuthorizationCacheService,
+                              PermissionIndexRegistryService permissionIndexRegistryService,
+                              RoleClosureService roleClosureService) {
         this.permissionRepository = permissionRepository;
         this.rolePermissionsConnectionService = rolePermissionsConnectionService;
         this.accountRoleConnectionService = accountRoleConnectionService;
+        this.accountAuthorizationCacheService = accountAuthorizationCacheService;
+        this.permissionIndexRegistryService = permissionIndexRegistryService;
+        this.roleClosureService = roleClosureService;
     }
 
     /**
@@ -90,8 +116,8 @@ public class PermissionsService {
             log.error("传入的 roleIds 为空, 不进行权限信息查询逻辑,直接返回空权限列表!");
             return Collections.emptyList();
         }
-        // 3. 通过传入的 roleIds 获取对应的角色权限关联信息 List 集合
-        List<RolePermissionConnectionDTO> rolePermissionConnectionDTOList = rolePermissionsConnectionService.queryRolePermissionConnectionByRoleId(permissionsDTO.getRoleIds());
+        // 3. 通过传入的 roleIds 及其所有上级角色获取对应的角色权限关联信息 List 集合, 角色继承上级角色的权限
+        List<RolePermissionConnectionDTO> rolePermissionConnectionDTOList = rolePermissionsConnectionService.queryRolePermissionConnectionByRoleId(new ArrayList<>(roleClosureService.queryAncestorIds(permissionsDTO.getRoleIds())));
         // 4. 判断角色权限关联信息 List 集合是否没有元素
         if (rolePermissionConnectionDTOList.isEmpty()) {
             log.error("未查询到该账户下的权限信息, 直接返回空权限列表!");
@@ -130,14 +156,58 @@ public class PermissionsService {
         }
         // 3. 通过账户 Id 获取账户角色关联信息 List 集合
         List<AccountRoleConnectionDTO> accountRoleConnectionDTOList = Optional.of(accountRoleConnectionService.queryAccountRoleConnectionByAccountId(permissionsDTO.getAccountId())).orElse(Collections.emptyList());
-        // 4. 通过查询出的账户拥有角色 List 查询对应 角色权限关联信息
-        List<RolePermissionConnectionDTO> rolePermissionConnectionDTOList = Optional.of(rolePermissionsConnectionService.queryRolePermissionConnectionByRoleId(accountRoleConnectionDTOList.stream().map(AccountRoleConnectionDTO::getRoleId).toList())).orElse(Collections.emptyList());
+        // 4. 通过查询出的账户拥有角色 List 及其所有上级角色查询对应 角色权限关联信息
+        List<RolePermissionConnectionDTO> rolePermissionConnectionDTOList = Optional.of(rolePermissionsConnectionService.queryRolePermissionConnectionByRoleId(new ArrayList<>(roleClosureService.queryAncestorIds(accountRoleConnectionDTOList.stream().map(AccountRoleConnectionDTO::getRoleId).toList())))).orElse(Collections.emptyList());
         // 5. 通过查询的角色权限关联信息 List 获取对应的权限信息
         List<Permission> permissionList = Optional.of(permissionRepository.findAllById(rolePermissionConnectionDTOList.stream().map(RolePermissionConnectionDTO::getPermissionId).toList())).orElse(Collections.emptyList());
         // 6. 获取权限信息 List 集合,并将其转换为 PermissionDTO 列表
         return BeanUtil.copyToList(permissionList, PermissionsDTO.class);
     }
 
+    /**
+     * 通过 账户Id 一次查询获取该账户的授权信息, 仅包含有效角色的角色代码和有效权限的权限代码
+     *
+     * @param accountId 需要查询授权信息的账户 ID
+     * @return 账户授权信息 {@link AccountAuthorizationDTO}, 其中权限代码和角色代码均已去重
+     */
+    public AccountAuthorizationDTO getAccountAuthorizationByAccountId(Long accountId) {
+        // 1. 通过关联查询一次性获取该账户的 角色代码-权限代码 投影数据
+        List<AccountAuthorizationCodeView> authorizationCodeList = Optional.of(permissionRepository.findAuthorizationCodeByAccountId(accountId, RoleStatusEnum.NORMAL.getCode(), PermissionsStatusEnum.NORMAL.getCode())).orElse(Collections.emptyList());
+        // 2. 拆分出去重后的角色代码集合和权限代码集合, 角色未关联有效权限时权限代码为 null, 需要过滤
+        Set<String> roleCodes = new LinkedHashSet<>();
+        Set<String> permissionCodes = new LinkedHashSet<>();
+        authorizationCodeList.forEach(authorizationCode -> {
+            roleCodes.add(authorizationCode.getRoleCode());
+            if (Objects.nonNull(authorizationCode.getPermissionCode())) {
+                permissionCodes.add(authorizationCode.getPermissionCode());
+            }
+        });
+        // 3. 组装账户授权信息
+        return buildAccountAuthorization(accountId, roleCodes, permissionCodes);
+    }
+
+    /**
+     * 通过账户拥有的角色代码集合和权限代码集合组装账户授权信息, 普通权限代码编译为权限位图, 通配符权限代码编译为分段字典树
+     *
+     * @param accountId       账户 ID
+     * @param roleCodes       去重后的角色代码集合
+     * @param permissionCodes 去重后的权限代码集合
+     * @return 账户授权信息 {@link AccountAuthorizationDTO}
+     */
+    public AccountAuthorizationDTO buildAccountAuthorization(Long accountId, Set<String> roleCodes, Set<String> permissionCodes) {
+        // 1. 拆分出通配符权限代码, 编译为分段字典树
+        List<String> wildcardPermissionCodes = permissionCodes.stream().filter(permissionCode -> permissionCode.contains(PermissionSegmentTrie.WILDCARD)).toList();
+        // 2. 组装账户授权信息, 普通权限代码编译为权限位图
+        return AccountAuthorizationDTO.builder()
+                .accountId(accountId)
+                .permissionCodes(Collections.unmodifiableSet(permissionCodes))
+                .roleCodes(Collections.unmodifiableSet(roleCodes))
+                .permissionBits(permissionIndexRegistryService.toBits(permissionCodes))
+                .containsWildcardPermission(!wildcardPermissionCodes.isEmpty())
+                .wildcardPermissionTrie(wildcardPermissionCodes.isEmpty() ? null : PermissionSegmentTrie.compile(wildcardPermissionCodes))
+                .build();
+    }
+
     /**
      * 新增权限信息
      *
@@ -200,7 +270,9 @@ public class PermissionsService {
         }
         // 3. 执行对应的更新语句
         int updateCount = permissionRepository.updatePermissionStatusByIdIn(permissionsDTO.getIds(), PermissionsStatusEnum.DELETE.getCode(), StpUtil.getLoginIdAsLong(), LocalDateTime.now());
-        // 4. 输出日志
+        // 4. 事务提交后移除拥有这些权限的账户的授权信息缓存
+        accountAuthorizationCacheService.evictAfterCommit(queryAccountIdsByPermissionIds(permissionsDTO.getIds()));
+        // 5. 输出日志
         log.info("删除权限信息成功, 删除权限数量为: {}", updateCount);
     }
 
@@ -278,7 +350,9 @@ public class PermissionsService {
             log.error("修改权限信息失败,需要修改的权限数量为 {} 实际修改权限数量为 {}", permissionsDTOList.size(), permissions.size());
             throw new ServiceException("update.data.fail");
         }
-        // 11. 输出日志
+        // 11. 事务提交后移除拥有这些权限的账户的授权信息缓存
+        accountAuthorizationCacheService.evictAfterCommit(queryAccountIdsByPermissionIds(idList));
+        // 12. 输出日志
         log.info("修改权限信息成功, 修改权限数量为: {}", permissions.size());
     }
 
@@ -350,6 +424,32 @@ public class PermissionsService {
         return this.getPermissionListByAccountIds(PermissionsDTO.builder().accountId(loginId).build(), Boolean.FALSE);
     }
 
+    /**
+     * 批量判断当前登录账户是否拥有指定的权限代码, 所有判断共用当前请求内解析的同一份账户授权信息
+     *
+     * @param permissionsDTO 批量判断参数封装对象, 使用 {@link PermissionsDTO#getCodes()} 权限代码集合和 {@link PermissionsDTO#getCodePrefix()} 权限代码前缀, 二者至少传入一个
+     * @return 权限代码 -> 是否拥有 的 Map 集合, 顺序与传入的权限代码一致, 前缀匹配到的权限代码排在其后
+     */
+    public Map<String, Boolean> checkCurrentUserPermissions(PermissionsDTO permissionsDTO) {
+        // 1. 判断是否传入了需要判断的权限代码或权限代码前缀
+        if (CollUtil.isEmpty(permissionsDTO.getCodes()) && StrUtil.isBlank(permissionsDTO.getCodePrefix())) {
+            throw new ServiceException("no.data.need.query");
+        }
+        // 2. 汇总需要判断的权限代码, 前缀匹配的权限代码来自有效的权限目录, 按 ":" 分隔的段匹配前缀
+        Set<String> needCheckCodes = new LinkedHashSet<>();
+        if (CollUtil.isNotEmpty(permissionsDTO.getCodes())) {
+            permissionsDTO.getCodes().stream().filter(StrUtil::isNotBlank).forEach(needCheckCodes::add);
+        }
+        if (StrUtil.isNotBlank(permissionsDTO.getCodePrefix())) {
+            permissionRepository.findByCodeSegmentPrefixAndStatus(StrUtil.removeSuffix(permissionsDTO.getCodePrefix(), ":"), PermissionsStatusEnum.NORMAL.getCode()).stream().map(Permission::getCode).forEach(needCheckCodes::add);
+        }
+        // 3. 逐个判断, 账户授权信息在当前请求内只解析一次
+        Object loginId = StpUtil.getLoginId();
+        Map<String, Boolean> checkResult = new LinkedHashMap<>();
+        needCheckCodes.forEach(code -> checkResult.put(code, StpUtil.getStpLogic().hasPermission(loginId, code)));
+        return checkResult;
+    }
+
     @Transactional(rollbackFor = Exception.class)
     public void assignedRoleForPermissions(PermissionsDTO permissionsDTO) {
         // 1. 判断当前账户是否拥有授予角色权限的权限
@@ -361,14 +461,50 @@ public class PermissionsService {
             log.error("当前账户没有删除角色权限的权限!");
             throw new ServiceException("no.delete.permission");
         }
-        // 2. 删除当前需要授予角色的所有权限
+        // 2. 获取授予前已拥有该权限的账户, 这些账户的授权信息需要在事务提交后重新加载
+        Set<Long> affectedAccountIds = new HashSet<>(queryAccountIdsByPermissionIds(Objects.isNull(permissionsDTO.getId()) ? Collections.emptyList() : List.of(permissionsDTO.getId())));
+        // 3. 删除当前需要授予角色的所有权限
         rolePermissionsConnectionService.removeRolePermissionConnectionByPermissionId(RolePermissionConnectionDTO.builder().permissionId(permissionsDTO.getId()).build());
-        // 3. 判断是否拥有操作数据
+        // 4. 判断是否拥有操作数据
         if (CollUtil.isNotEmpty(permissionsDTO.getRoleIds())) {
-            // 4. 构造需要保存的角色和权限关联关系对象 List 集合
+            // 5. 构造需要保存的角色和权限关联关系对象 List 集合
             List<RolePermissionConnectionDTO> rolePermissionConnectionDTOList = permissionsDTO.getRoleIds().stream().map(roleId -> RolePermissionConnectionDTO.builder().permissionId(permissionsDTO.getId()).roleId(roleId).build()).collect(Collectors.toList());
-            // 5. 添加当前需要授予角色的所有权限
+            // 6. 添加当前需要授予角色的所有权限
             rolePermissionsConnectionService.addRolePermissionConnection(rolePermissionConnectionDTOList);
+            // 7. 新授予角色下的账户同样需要重新加载授权信息
+            affectedAccountIds.addAll(queryAccountIdsByRoleIds(permissionsDTO.getRoleIds()));
+        }
+        // 8. 事务提交后移除受影响账户的授权信息缓存
+        accountAuthorizationCacheService.evictAfterCommit(affectedAccountIds);
+    }
+
+    /**
+     * 通过权限 ID List 集合查询拥有这些权限的账户 ID List 集合
+     *
+     * @param permissionIds 权限 ID List 集合
+     * @return 拥有这些权限的账户 ID List 集合; 当传入的权限 ID 为空或未查询到关联关系时, 返回空 List 集合
+     */
+    private List<Long> queryAccountIdsByPermissionIds(List<Long> permissionIds) {
+        if (CollUtil.isEmpty(permissionIds)) {
+            return Collections.emptyList();
+        }
+        // 通过权限 ID 获取已关联的角色 ID, 再通过角色 ID 获取已关联的账户 ID
+        RolePermissionConnectionDTO rolePermissionConnectionDTO = rolePermissionsConnectionService.queryRolePermissionConnectionByPermissionId(RolePermissionConnectionDTO.builder().permissionIds(permissionIds).build());
+        return queryAccountIdsByRoleIds(rolePermissionConnectionDTO.getRoleIds());
+    }
+
+    /**
+     * 通过角色 ID List 集合查询拥有这些角色或其下级角色的账户 ID List 集合, 下级角色会继承这些角色的权限
+     *
+     * @param roleIds 角色 ID List 集合
+     * @return 拥有这些角色或其下级角色的账户 ID List 集合; 当传入的角色 ID 为空或未查询到关联关系时, 返回空 List 集合
+     */
+    private List<Long> queryAccountIdsByRoleIds(List<Long> roleIds) {
+        if (CollUtil.isEmpty(roleIds)) {
+            return Collections.emptyList();
         }
+        List<Long> descendantIds = new ArrayList<>(roleClosureService.queryDescendantIds(roleIds));
+        AccountRoleConnectionDTO accountRoleConnectionDTO = accountRoleConnectionService.queryAccountIdByRoleId(AccountRoleConnectionDTO.builder().roleIds(descendantIds).build());
+        return Optional.ofNullable(accountRoleConnectionDTO.getAccountIds()).orElse(Collections.emptyList());
     }
 }
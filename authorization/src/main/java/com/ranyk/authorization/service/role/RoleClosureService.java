@@ -0,0 +1,242 @@
+package com.ranyk.authorization.service.role;
+
+import cn.hutool.core.collection.CollUtil;
+import com.ranyk.authorization.repository.role.RoleClosureRepository;
+import com.ranyk.authorization.repository.role.RoleRepository;
+import com.ranyk.authorization.service.permissions.AccountAuthorizationCacheService;
+import com.ranyk.common.constant.RoleStatusEnum;
+import com.ranyk.model.business.role.entity.Role;
+import com.ranyk.model.business.role.entity.RoleClosure;
+import com.ranyk.model.exception.service.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * CLASS_NAME: RoleClosureService.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 角色继承闭包业务逻辑类, 在角色新增、调整父角色、删除时增量维护角色继承闭包表, 使查询角色的所有上级或下级角色只需一次查询
+ * @date: 2026-10-18
+ */
+@Slf4j
+@Service
+public class RoleClosureService {
+
+    /**
+     * 系统初始化数据使用的操作人 ID
+     */
+    private static final Long SYSTEM_OPERATOR_ID = 1L;
+    /**
+     * 角色继承闭包信息数据库操作类
+     */
+    private final RoleClosureRepository roleClosureRepository;
+    /**
+     * 角色信息数据库操作类
+     */
+    private final RoleRepository roleRepository;
+    /**
+     * 账户授权信息缓存业务逻辑类
+     */
+    private final AccountAuthorizationCacheService accountAuthorizationCacheService;
+
+    /**
+     * 构造函数
+     *
+     * @param roleClosureRepository 角色继承闭包信息数据库操作类
+     * @param roleRepository                   角色信息数据库操作类
+     * @param accountAuthorizationCacheService 账户授权信息缓存业务逻辑类
+     */
+    @Autowired
+    public RoleClosureService(RoleClosureRepository roleClosureRepository, RoleRepository roleRepository, AccountAuthorizationCacheService accountAuthorizationCacheService) {
+        this.roleClosureRepository = roleClosureRepository;
+        this.roleRepository = roleRepository;
+        this.accountAuthorizationCacheService = accountAuthorizationCacheService;
+    }
+
+    /**
+     * 应用启动完成后, 为闭包表中缺少自身数据的角色(如首次升级、通过 SQL 直接插入的角色)根据父角色 ID 补全闭包数据; 需先于授权信息快照加载执行
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(rollbackFor = Exception.class)
+    public void repairMissing() {
+        // 1. 获取所有未删除的角色, 构建 角色 ID -> 父角色 ID 映射; 已删除角色的闭包数据在删除时已移除, 不需要补全
+        Map<Long, Long> parentIdMap = new HashMap<>();
+        roleRepository.findByStatusNot(RoleStatusEnum.DELETED.getCode()).forEach(role -> parentIdMap.put(role.getId(), role.getParentId()));
+        // 2. 找出闭包表中缺少自身数据的角色
+        Set<Long> missingRoleIds = new HashSet<>(parentIdMap.keySet());
+        roleClosureRepository.findSelfRoleIds().forEach(missingRoleIds::remove);
+        if (missingRoleIds.isEmpty()) {
+            return;
+        }
+        // 3. 移除这些角色残留的闭包数据, 再逐个角色沿父角色链向上重新生成, 父角色链出现环时截断
+        roleClosureRepository.deleteByDescendantIds(missingRoleIds);
+        LocalDateTime now = LocalDateTime.now();
+        List<RoleClosure> roleClosureList = new ArrayList<>();
+        missingRoleIds.forEach(roleId -> {
+            Set<Long> visited = new HashSet<>();
+            Long ancestorId = roleId;
+            int depth = 0;
+            while (Objects.nonNull(ancestorId) && parentIdMap.containsKey(ancestorId) && visited.add(ancestorId)) {
+                roleClosureList.add(buildRoleClosure(ancestorId, roleId, depth++, SYSTEM_OPERATOR_ID, now));
+                ancestorId = parentIdMap.get(ancestorId);
+            }
+            if (Objects.nonNull(ancestorId) && visited.contains(ancestorId)) {
+                log.error("角色 ID 为 {} 的父角色链存在环, 已截断!", roleId);
+            }
+        });
+        // 4. 保存闭包数据, 所有账户继承的权限可能发生变化, 事务提交后移除所有账户的授权信息缓存
+        roleClosureRepository.saveAll(roleClosureList);
+        accountAuthorizationCacheService.evictAllAfterCommit();
+        log.info("角色继承闭包数据补全完成, 补全的角色数量为: {} , 闭包数据数量为: {}", missingRoleIds.size(), roleClosureList.size());
+    }
+
+    /**
+     * 为新增的角色生成闭包数据, 包含角色自身以及父角色的所有上级角色
+     *
+     * @param roleList   新增的角色信息 List 集合, 父角色需已存在闭包数据
+     * @param operatorId 操作人 ID
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public void addRoles(List<Role> roleList, Long operatorId) {
+        LocalDateTime now = LocalDateTime.now();
+        // 1. 一次查询出所有父角色的上级角色
+        Map<Long, List<RoleClosure>> parentAncestorMap = roleClosureRepository.findByDescendantIdIn(roleList.stream().map(Role::getParentId).filter(Objects::nonNull).collect(Collectors.toSet()))
+                .stream().collect(Collectors.groupingBy(RoleClosure::getDescendantId));
+        // 2. 生成 角色自身 + 父角色的所有上级角色 闭包数据
+        List<RoleClosure> roleClosureList = new ArrayList<>();
+        roleList.forEach(role -> {
+            roleClosureList.add(buildRoleClosure(role.getId(), role.getId(), 0, operatorId, now));
+            parentAncestorMap.getOrDefault(role.getParentId(), Collections.emptyList())
+                    .forEach(parentAncestor -> roleClosureList.add(buildRoleClosure(parentAncestor.getAncestorId(), role.getId(), parentAncestor.getDepth() + 1, operatorId, now)));
+        });
+        roleClosureRepository.saveAll(roleClosureList);
+    }
+
+    /**
+     * 检查将指定角色的父角色调整为新的父角色后是否会形成环
+     *
+     * @param roleId      角色 ID
+     * @param newParentId 新的父角色 ID, 为 null 时表示调整为顶级角色
+     */
+    public void checkParent(Long roleId, Long newParentId) {
+        if (Objects.isNull(newParentId)) {
+            return;
+        }
+        if (Objects.equals(roleId, newParentId) || roleClosureRepository.existsByAncestorIdAndDescendantId(roleId, newParentId)) {
+            log.error("角色 ID 为 {} 的父角色不能调整为 {}, 会形成继承环!", roleId, newParentId);
+            throw new ServiceException("role.parent.cycle", roleId);
+        }
+    }
+
+    /**
+     * 将指定角色(连同其所有下级角色)移动到新的父角色下
+     *
+     * @param roleId      角色 ID
+     * @param newParentId 新的父角色 ID, 为 null 时表示调整为顶级角色
+     * @param operatorId  操作人 ID
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public void moveRole(Long roleId, Long newParentId, Long operatorId) {
+        // 1. 检查是否会形成环
+        checkParent(roleId, newParentId);
+        // 2. 获取该角色的子树(包含自身)
+        List<RoleClosure> subtreeList = roleClosureRepository.findByAncestorIdIn(List.of(roleId));
+        Set<Long> subtreeIds = subtreeList.stream().map(RoleClosure::getDescendantId).collect(Collectors.toSet());
+        subtreeIds.add(roleId);
+        // 3. 断开子树与原上级角色的继承关系
+        roleClosureRepository.deleteBySubtreeExternalAncestors(subtreeIds);
+        if (Objects.isNull(newParentId)) {
+            return;
+        }
+        // 4. 新父角色的每个上级角色与子树中的每个角色之间建立继承关系
+        LocalDateTime now = LocalDateTime.now();
+        List<RoleClosure> roleClosureList = new ArrayList<>();
+        roleClosureRepository.findByDescendantIdIn(List.of(newParentId)).forEach(parentAncestor ->
+                subtreeList.forEach(subtree -> roleClosureList.add(buildRoleClosure(parentAncestor.getAncestorId(), subtree.getDescendantId(), parentAncestor.getDepth() + subtree.getDepth() + 1, operatorId, now))));
+        roleClosureRepository.saveAll(roleClosureList);
+    }
+
+    /**
+     * 移除已删除角色的闭包数据, 其直接子角色上移到被删除角色的父角色下, 以保留子角色对更上级角色的继承
+     *
+     * @param roleIds    已删除的角色 ID 列表
+     * @param operatorId 操作人 ID
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public void removeRoles(List<Long> roleIds, Long operatorId) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Role> removedRoleMap = roleRepository.findAllById(roleIds).stream().collect(Collectors.toMap(Role::getId, Function.identity()));
+        // 1. 逐个处理被删除角色的直接子角色, 同一链路上多个角色同时删除时, 子角色会继续上移
+        roleIds.forEach(roleId -> {
+            Role removedRole = removedRoleMap.get(roleId);
+            if (Objects.isNull(removedRole)) {
+                return;
+            }
+            roleRepository.findByParentIdIn(List.of(roleId)).forEach(child -> {
+                child.setParentId(removedRole.getParentId());
+                child.setUpdateId(operatorId);
+                child.setUpdateTime(now);
+                moveRole(child.getId(), removedRole.getParentId(), operatorId);
+            });
+        });
+        // 2. 删除被删除角色自身的闭包数据
+        roleClosureRepository.deleteByRoleIds(roleIds);
+    }
+
+    /**
+     * 获取指定角色的所有上级角色 ID(包含自身)
+     *
+     * @param roleIds 角色 ID 集合
+     * @return 上级角色 ID 集合
+     */
+    public Set<Long> queryAncestorIds(Collection<Long> roleIds) {
+        if (CollUtil.isEmpty(roleIds)) {
+            return Collections.emptySet();
+        }
+        Set<Long> ancestorIds = roleClosureRepository.findByDescendantIdIn(roleIds).stream().map(RoleClosure::getAncestorId).collect(Collectors.toSet());
+        ancestorIds.addAll(roleIds);
+        return ancestorIds;
+    }
+
+    /**
+     * 获取指定角色的所有下级角色 ID(包含自身)
+     *
+     * @param roleIds 角色 ID 集合
+     * @return 下级角色 ID 集合
+     */
+    public Set<Long> queryDescendantIds(Collection<Long> roleIds) {
+        if (CollUtil.isEmpty(roleIds)) {
+            return Collections.emptySet();
+        }
+        Set<Long> descendantIds = roleClosureRepository.findByAncestorIdIn(roleIds).stream().map(RoleClosure::getDescendantId).collect(Collectors.toSet());
+        descendantIds.addAll(roleIds);
+        return descendantIds;
+    }
+
+    /**
+     * 构建角色继承闭包数据对象
+     *
+     * @param ancestorId   上级角色 ID
+     * @param descendantId 下级角色 ID
+     * @param depth        层级距离
+     * @param operatorId   操作人 ID
+     * @param now          当前时间
+     * @return 角色继承闭包数据对象 {@link RoleClosure}
+     */
+    private RoleClosure buildRoleClosure(Long ancestorId, Long descendantId, Integer depth, Long operatorId, LocalDateTime now) {
+        return RoleClosure.builder().ancestorId(ancestorId).descendantId(descendantId).depth(depth).createId(operatorId).updateId(operatorId).createTime(now).updateTime(now).build();
+    }
+}
@@ -6,6 +6,7 @@ import cn.hutool.core.collection.CollUtil;
 import cn.hutool.core.util.StrUtil;
 import com.ranyk.authorization.repository.role.RoleRepository;
 import com.ranyk.authorization.service.account.AccountRoleConnectionService;
+import com.ranyk.authorization.service.permissions.AccountAuthorizationCacheService;
 import com.ranyk.common.constant.AccountPermissionEnum;
 import com.ranyk.common.constant.RoleStatusEnum;
 import com.ranyk.model.base.dto.BaseDTO;
@@ -58,6 +59,14 @@ public class RoleService {
      * 角色信息数据库操作类
      */
     private final RoleRepository roleRepository;
+    /**
+     * 账户授权信息缓存业务逻辑类
+     */
+    private final AccountAuthorizationCacheService accountAuthorizationCacheService;
+    /**
+     * 角色继承闭包业务逻辑类
+     */
+    private final RoleClosureService roleClosureService;
 
     /**
      * 构造函数
@@ -65,14 +74,20 @@ public class RoleService {
      * @param accountRoleConnectionService     账号角色关联信息业务逻辑类
      * @param rolePermissionsConnectionService 角色权限关联信息业务逻辑类
      * @param roleRepository                   角色信息数据库操作类
+     * @param accountAuthorizationCacheService 账户授权信息缓存业务逻辑类
+     * @param roleClosureService               角色继承闭包业务逻辑类
      */
     @Autowired
     public RoleService(AccountRoleConnectionService accountRoleConnectionService,
                        RolePermissionsConnectionService rolePermissionsConnectionService,
-                       RoleRepository roleRepository) {
+                       RoleRepository roleRepository,
+                       AccountAuthorizationCacheService accountAuthorizationCacheService,
+                       RoleClosureService roleClosureService) {
         this.accountRoleConnectionService = accountRoleConnectionService;
         this.rolePermissionsConnectionService = rolePermissionsConnectionService;
         this.roleRepository = roleRepository;
+        this.accountAuthorizationCacheService = accountAuthorizationCacheService;
+        this.roleClosureService = roleClosureService;
     }
 
     /**
@@ -136,20 +151,28 @@ public class RoleService {
         if (roleRepository.existsByCodeIn(roleCodeList)) {
             throw new ServiceException("duplicate.data.found");
         }
-        // 5. 获取当前登录账户的账户 ID
+        // 5. 判断指定的父角色是否都已存在且状态正常
+        Set<Long> parentIds = roleDTOList.stream().map(roleDTO -> normalizeParentId(roleDTO.getParentId())).filter(Objects::nonNull).collect(Collectors.toSet());
+        if (!parentIds.isEmpty() && roleRepository.findAllById(parentIds).stream().filter(parent -> Objects.equals(parent.getStatus(), RoleStatusEnum.NORMAL.getCode())).count() != parentIds.size()) {
+            log.error("新增角色信息失败, 指定的父角色不存在或已停用, 父角色 ID 为: {}", parentIds);
+            throw new ServiceException("data.incomplete");
+        }
+        // 6. 获取当前登录账户的账户 ID
         Long loginId = StpUtil.getLoginIdAsLong();
-        // 6. 获取当前时间
+        // 7. 获取当前时间
         LocalDateTime now = LocalDateTime.now();
-        // 7. 组装对应的角色信息数据
-        List<Role> needSaveRoleList = roleDTOList.stream().map(roleDTO -> Role.builder().name(roleDTO.getName()).code(roleDTO.getCode()).status(Objects.isNull(roleDTO.getStatus()) ? RoleStatusEnum.NORMAL.getCode() : roleDTO.getStatus()).remark(roleDTO.getRemark()).createId(loginId).updateId(loginId).createTime(now).updateTime(now).build()).collect(Collectors.toList());
-        // 8. 保存角色信息
+        // 8. 组装对应的角色信息数据
+        List<Role> needSaveRoleList = roleDTOList.stream().map(roleDTO -> Role.builder().name(roleDTO.getName()).code(roleDTO.getCode()).status(Objects.isNull(roleDTO.getStatus()) ? RoleStatusEnum.NORMAL.getCode() : roleDTO.getStatus()).parentId(normalizeParentId(roleDTO.getParentId())).remark(roleDTO.getRemark()).createId(loginId).updateId(loginId).createTime(now).updateTime(now).build()).collect(Collectors.toList());
+        // 9. 保存角色信息
         List<Role> saveRoleList = roleRepository.saveAllAndFlush(needSaveRoleList);
-        // 9. 判断是否保存一致
+        // 10. 判断是否保存一致
         if (!Objects.equals(saveRoleList.size(), roleDTOList.size())) {
             log.error("新增角色信息失败,需新增的角色数量为: {} ,实际新增角色数量为: {}", roleDTOList.size(), needSaveRoleList.size());
             throw new ServiceException("create.data.fail");
         }
-        // 10. 输出日志
+        // 11. 生成新增角色的继承闭包数据
+        roleClosureService.addRoles(saveRoleList, loginId);
+        // 12. 输出日志
         log.info("新增角色信息成功,需新增的角色数量为: {} ,实际新增角色数量为: {}", roleDTOList.size(), saveRoleList.size());
     }
 
@@ -169,9 +192,16 @@ public class RoleService {
             log.error("未传入需要删除的角色信息, 不进行角色信息删除逻辑!");
             throw new ServiceException("no.data.need.delete");
         }
-        // 3. 执行更新数据操作
-        int updateCount = roleRepository.updateRoleStatusByIds(roleDTO.getIds(), RoleStatusEnum.DELETED.getCode(), StpUtil.getLoginIdAsLong(), LocalDateTime.now());
-        // 4. 输出日志
+        // 3. 获取拥有这些角色及其下级角色的账户, 需在调整继承关系前获取
+        List<Long> affectedAccountIds = queryAccountIdsByRoleIds(roleDTO.getIds());
+        // 4. 执行更新数据操作
+        Long loginId = StpUtil.getLoginIdAsLong();
+        int updateCount = roleRepository.updateRoleStatusByIds(roleDTO.getIds(), RoleStatusEnum.DELETED.getCode(), loginId, LocalDateTime.now());
+        // 5. 移除被删除角色的继承关系, 其子角色上移到被删除角色的父角色下
+        roleClosureService.removeRoles(roleDTO.getIds(), loginId);
+        // 6. 事务提交后移除受影响账户的授权信息缓存
+        accountAuthorizationCacheService.evictAfterCommit(affectedAccountIds);
+        // 7. 输出日志
         log.info("删除角色信息成功, 需删除的角色数量为: {} , 实际删除角色数量为: {}", roleDTO.getIds().size(), updateCount);
     }
 
@@ -198,7 +228,8 @@ public class RoleService {
             } else {
                 if (StrUtil.isBlank(roleDTO.getName())
                         && StrUtil.isBlank(roleDTO.getCode())
-                        && Objects.isNull(roleDTO.getStatus())) {
+                        && Objects.isNull(roleDTO.getStatus())
+                        && Objects.isNull(roleDTO.getParentId())) {
                     throw new ServiceException("data.incomplete");
                 }
             }
@@ -209,19 +240,28 @@ public class RoleService {
         if (roleRepository.existsByCodeInAndIdNotInAndStatusEquals(roleCodeList, idList, RoleStatusEnum.NORMAL.getCode())) {
             throw new ServiceException("duplicate.data.found");
         }
-        // 5. 获取当前登录账户的账户 ID
+        // 5. 判断指定的父角色是否都已存在且状态正常
+        Set<Long> parentIds = roleDTOList.stream().map(roleDTO -> normalizeParentId(roleDTO.getParentId())).filter(Objects::nonNull).collect(Collectors.toSet());
+        if (!parentIds.isEmpty() && roleRepository.findAllById(parentIds).stream().filter(parent -> Objects.equals(parent.getStatus(), RoleStatusEnum.NORMAL.getCode())).count() != parentIds.size()) {
+            log.error("修改角色信息失败, 指定的父角色不存在或已停用, 父角色 ID 为: {}", parentIds);
+            throw new ServiceException("data.incomplete");
+        }
+        // 6. 获取当前登录账户的账户 ID
         Long loginId = StpUtil.getLoginIdAsLong();
-        // 6. 获取当前时间
+        // 7. 获取当前时间
         LocalDateTime now = LocalDateTime.now();
-        // 7. 将需要保持的角色数据 List 转换为 Map 集合,方便后续的数据组装
+        // 8. 将需要保持的角色数据 List 转换为 Map 集合,方便后续的数据组装
         Map<Long, RoleDTO> needSaveRoleMap = roleDTOList.stream().filter(roleDTO -> Objects.nonNull(roleDTO.getId())).collect(Collectors.toMap(
                 RoleDTO::getId,
                 roleDTO -> roleDTO,
                 (existing, replacement) -> existing
         ));
-        // 8. 获取当前在数据库中以及持久化的角色数据 List 集合
+        // 9. 获取当前在数据库中以及持久化的角色数据 List 集合
         List<Role> roleList = Optional.of(roleRepository.findAllById(idList)).orElse(Collections.emptyList());
-        // 9. 遍历对应的角色数据 List 集合, 组装对应的角色信息
+        // 10. 获取拥有这些角色及其下级角色的账户, 需在调整继承关系前获取
+        List<Long> affectedAccountIds = queryAccountIdsByRoleIds(idList);
+        // 11. 遍历对应的角色数据 List 集合, 组装对应的角色信息, 同时记录父角色发生变化的角色
+        Map<Long, Long> movedRoleParentMap = new LinkedHashMap<>();
         roleList.forEach(role -> {
             RoleDTO roleDTO = needSaveRoleMap.get(role.getId());
             if (StrUtil.isNotBlank(roleDTO.getName())) {
@@ -236,17 +276,26 @@ public class RoleService {
             if (StrUtil.isNotBlank(roleDTO.getRemark())){
                 role.setRemark(roleDTO.getRemark());
             }
+            if (Objects.nonNull(roleDTO.getParentId()) && !Objects.equals(normalizeParentId(roleDTO.getParentId()), role.getParentId())) {
+                roleClosureService.checkParent(role.getId(), normalizeParentId(roleDTO.getParentId()));
+                role.setParentId(normalizeParentId(roleDTO.getParentId()));
+                movedRoleParentMap.put(role.getId(), role.getParentId());
+            }
             role.setUpdateId(loginId);
             role.setUpdateTime(now);
         });
-        // 10、执行数据更新
+        // 12、执行数据更新
         List<Role> roles = roleRepository.saveAll(roleList);
-        // 11. 判断是否将其对应的数据修改成功
+        // 13. 判断是否将其对应的数据修改成功
         if (!Objects.equals(roles.size(), roleDTOList.size())) {
             log.error("修改角色信息失败,需修改的角色数量为: {} ,实际修改角色数量为: {}", roleDTOList.size(), roles.size());
             throw new ServiceException("update.data.fail");
         }
-        // 12. 输出日志
+        // 14. 调整父角色发生变化的角色的继承关系
+        movedRoleParentMap.forEach((roleId, parentId) -> roleClosureService.moveRole(roleId, parentId, loginId));
+        // 15. 角色代码、状态或继承关系可能已变更, 事务提交后移除受影响账户的授权信息缓存
+        accountAuthorizationCacheService.evictAfterCommit(affectedAccountIds);
+        // 16. 输出日志
         log.info("修改角色信息成功, 需修改的角色数量为: {} ,实际修改角色数量为: {}", roleDTOList.size(), roles.size());
     }
 
@@ -315,17 +364,42 @@ public class RoleService {
             log.error("当前用户没有账户角色删除权限!");
             throw new UserException("no.delete.permission");
         }
-        // 2. 根据角色 ID 删除当前已绑定的账户和角色关联关系
+        // 2. 根据角色 ID 删除当前已绑定的账户和角色关联关系, 原关联账户的授权信息缓存由关联关系业务逻辑类负责移除
         accountRoleConnectionService.removeAccountRoleConnectionByRoleId(AccountRoleConnectionDTO.builder().roleId(roleDTO.getId()).build());
         // 3. 判断是否拥有操作数据
         if (CollUtil.isNotEmpty(roleDTO.getAccountIds())) {
             // 4. 构造需要保存的账户和角色关联关系对象 List 集合
             List<AccountRoleConnectionDTO> saveAccountRoleConnectionDTOList = roleDTO.getAccountIds().stream().map(accountId -> AccountRoleConnectionDTO.builder().accountId(accountId).roleId(roleDTO.getId()).build()).collect(Collectors.toList());
-            // 5. 新增账户角色关联关系
+            // 5. 新增账户角色关联关系, 新关联账户的授权信息缓存由关联关系业务逻辑类负责移除
             accountRoleConnectionService.addAccountRoleConnection(saveAccountRoleConnectionDTOList);
         }
     }
 
+    /**
+     * 通过角色 ID List 集合查询拥有这些角色或其下级角色的账户 ID List 集合, 下级角色会继承这些角色的权限
+     *
+     * @param roleIds 角色 ID List 集合
+     * @return 拥有这些角色或其下级角色的账户 ID List 集合; 当传入的角色 ID 为空或未查询到关联关系时, 返回空 List 集合
+     */
+    private List<Long> queryAccountIdsByRoleIds(List<Long> roleIds) {
+        if (CollUtil.isEmpty(roleIds)) {
+            return Collections.emptyList();
+        }
+        List<Long> descendantIds = new ArrayList<>(roleClosureService.queryDescendantIds(roleIds));
+        AccountRoleConnectionDTO accountRoleConnectionDTO = accountRoleConnectionService.queryAccountIdByRoleId(AccountRoleConnectionDTO.builder().roleIds(descendantIds).build());
+        return Optional.ofNullable(accountRoleConnectionDTO.getAccountIds()).orElse(Collections.emptyList());
+    }
+
+    /**
+     * 规范化传入的父角色 ID, 0 表示顶级角色, 统一转换为 null
+     *
+     * @param parentId 传入的父角色 ID
+     * @return 规范化后的父角色 ID
+     */
+    private Long normalizeParentId(Long parentId) {
+        return Objects.isNull(parentId) || parentId == 0L ? null : parentId;
+    }
+
     /**
      * 查询所有有效的角色 List 集合
      *
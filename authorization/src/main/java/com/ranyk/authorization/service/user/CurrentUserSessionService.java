@@ -0,0 +1,156 @@
+package com.ranyk.authorization.service.user;
+
+import cn.dev33.satoken.session.SaSession;
+import cn.dev33.satoken.stp.StpUtil;
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.collection.CollUtil;
+import com.ranyk.authorization.repository.account.AccountUserConnectionRepository;
+import com.ranyk.authorization.repository.user.UserBaseRepository;
+import com.ranyk.cache.epoch.EpochCounter;
+import com.ranyk.core.utils.TransactionUtils;
+import com.ranyk.model.business.account.entity.AccountUserConnection;
+import com.ranyk.model.business.userinfo.dto.CurrentUserStampDTO;
+import com.ranyk.model.business.userinfo.dto.UserBaseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * CLASS_NAME: CurrentUserSessionService.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 当前用户信息会话缓存业务逻辑类, 将账户关联的用户信息保存在该账户的 Account-Session 中, 之后直接从会话中获取;
+ * 用户信息被修改、删除或账户重新绑定用户时, 在事务提交后递增受影响账户的用户信息纪元并移除会话中的用户信息, 下次获取时重新加载;
+ * 会话中的用户信息带上加载前读取的纪元, 与当前纪元不一致时视为失效, 移除之后才写回会话的旧用户信息同样不会被使用
+ * @date: 2026-10-18
+ */
+@Slf4j
+@Service
+public class CurrentUserSessionService {
+
+    /**
+     * 用户信息在账户会话中的存放 key
+     */
+    public static final String SESSION_KEY = "currentUser";
+    /**
+     * 账户用户信息纪元在纪元计数器中的 key 前缀
+     */
+    private static final String EPOCH_KEY_PREFIX = "current-user:epoch:account:";
+    /**
+     * 账户用户关联关系数据库操作对象
+     */
+    private final AccountUserConnectionRepository accountUserConnectionRepository;
+    /**
+     * 用户信息数据库操作对象
+     */
+    private final UserBaseRepository userBaseRepository;
+    /**
+     * 纪元计数器对象
+     */
+    private final EpochCounter epochCounter;
+
+    /**
+     * 构造方法
+     *
+     * @param accountUserConnectionRepository 账户用户关联关系数据库操作对象
+     * @param userBaseRepository              用户信息数据库操作对象
+     * @param epochCounter                    纪元计数器对象
+     */
+    @Autowired
+    public CurrentUserSessionService(AccountUserConnectionRepository accountUserConnectionRepository,
+                                     UserBaseRepository userBaseRepository,
+                                     EpochCounter epochCounter) {
+        this.accountUserConnectionRepository = accountUserConnectionRepository;
+        this.userBaseRepository = userBaseRepository;
+        this.epochCounter = epochCounter;
+    }
+
+    /**
+     * 获取指定账户关联的用户信息, 优先从账户会话中获取, 未命中时从数据库加载并保存到账户会话中
+     *
+     * @param accountId 账户 ID
+     * @return 用户信息 {@link UserBaseDTO}, 账户未关联用户信息时为空对象
+     */
+    public UserBaseDTO get(Long accountId) {
+        // 1. 账户未登录时不存在账户会话, 不主动创建, 直接加载
+        SaSession session = StpUtil.getSessionByLoginId(accountId, false);
+        if (Objects.isNull(session)) {
+            return load(accountId);
+        }
+        // 2. 会话中的用户信息纪元与当前纪元一致时直接返回
+        long epoch = epochCounter.get(List.of(EPOCH_KEY_PREFIX + accountId)).getFirst();
+        if (session.get(SESSION_KEY) instanceof CurrentUserStampDTO stamp && Objects.equals(stamp.getEpoch(), epoch)) {
+            return stamp.getCurrentUser();
+        }
+        // 3. 重新加载并带上加载前读取的纪元写回会话, 加载期间用户信息被修改时纪元已递增, 下一次读取会再次加载
+        UserBaseDTO userBaseDTO = load(accountId);
+        session.set(SESSION_KEY, CurrentUserStampDTO.builder().epoch(epoch).currentUser(userBaseDTO).build());
+        return userBaseDTO;
+    }
+
+    /**
+     * 在当前事务提交后移除指定用户所绑定账户会话中的用户信息, 不存在事务时立即移除
+     *
+     * @param userIds 用户 ID 集合
+     */
+    public void evictByUserIdsAfterCommit(Collection<Long> userIds) {
+        if (CollUtil.isEmpty(userIds)) {
+            return;
+        }
+        List<Long> userIdList = List.copyOf(userIds);
+        // 事务提交后再移除, 避免并发请求在事务提交前将旧数据重新保存进会话
+        TransactionUtils.runAfterCommit(() -> evict(accountUserConnectionRepository.findByUserIdIn(userIdList).stream().map(AccountUserConnection::getAccountId).toList()));
+    }
+
+    /**
+     * 在当前事务提交后移除指定账户会话中的用户信息, 不存在事务时立即移除
+     *
+     * @param accountIds 账户 ID 集合
+     */
+    public void evictByAccountIdsAfterCommit(Collection<Long> accountIds) {
+        if (CollUtil.isEmpty(accountIds)) {
+            return;
+        }
+        List<Long> accountIdList = List.copyOf(accountIds);
+        // 事务提交后再移除, 避免并发请求在事务提交前将旧数据重新保存进会话
+        TransactionUtils.runAfterCommit(() -> evict(accountIdList));
+    }
+
+    /**
+     * 从数据库加载指定账户关联的用户信息
+     *
+     * @param accountId 账户 ID
+     * @return 用户信息 {@link UserBaseDTO}, 账户未关联用户信息时为空对象
+     */
+    private UserBaseDTO load(Long accountId) {
+        AccountUserConnection accountUserConnection = accountUserConnectionRepository.findAccountUserConnectionByAccountIdEquals(accountId);
+        if (Objects.isNull(accountUserConnection) || Objects.isNull(accountUserConnection.getUserId())) {
+            return UserBaseDTO.builder().build();
+        }
+        return userBaseRepository.findById(accountUserConnection.getUserId())
+                .map(userBase -> BeanUtil.copyProperties(userBase, UserBaseDTO.class))
+                .orElse(UserBaseDTO.builder().build());
+    }
+
+    /**
+     * 递增指定账户的用户信息纪元, 并移除账户会话中的用户信息, 未登录的账户不存在会话, 跳过移除
+     *
+     * @param accountIds 账户 ID 集合
+     */
+    private void evict(Collection<Long> accountIds) {
+        // 先递增纪元, 之后写回会话的旧用户信息带有旧纪元, 不会再被使用
+        epochCounter.increment(accountIds.stream().map(accountId -> EPOCH_KEY_PREFIX + accountId).toList());
+        accountIds.forEach(accountId -> {
+            SaSession session = StpUtil.getSessionByLoginId(accountId, false);
+            if (Objects.nonNull(session)) {
+                session.delete(SESSION_KEY);
+            }
+        });
+        log.info("已移除账户会话中的用户信息, 账户 ID 为: {}", accountIds);
+    }
+}
@@ -4,11 +4,9 @@ import cn.dev33.satoken.stp.StpUtil;
 import cn.hutool.core.bean.BeanUtil;
 import cn.hutool.core.util.StrUtil;
 import com.ranyk.authorization.repository.user.UserBaseRepository;
-import com.ranyk.authorization.service.account.AccountUserConnectionService;
 import com.ranyk.common.constant.AccountPermissionEnum;
 import com.ranyk.common.constant.SymbolEnum;
 import com.ranyk.common.constant.UserStatusEnum;
-import com.ranyk.model.business.account.dto.AccountUserConnectionDTO;
 import com.ranyk.model.business.userinfo.dto.UserBaseDTO;
 import com.ranyk.model.business.userinfo.entity.UserBase;
 import com.ranyk.model.business.userinfo.vo.UserBaseVO;
@@ -49,22 +47,22 @@ public class UserService {
      */
     private final UserBaseRepository userBaseRepository;
     /**
-     * 账户用户关联关系业务逻辑类对象
+     * 当前用户信息会话缓存业务逻辑类对象
      */
-    private final AccountUserConnectionService accountUserConnectionService;
+    private final CurrentUserSessionService currentUserSessionService;
 
 
     /**
      * 构造方法
      *
-     * @param userBaseRepository           用户基本信息数据库操作类对象
-     * @param accountUserConnectionService 账户用户关联关系业务逻辑类对象
+     * @param userBaseRepository        用户基本信息数据库操作类对象
+     * @param currentUserSessionService 当前用户信息会话缓存业务逻辑类对象
      */
     @Autowired
     public UserService(UserBaseRepository userBaseRepository,
-                       AccountUserConnectionService accountUserConnectionService) {
+                       CurrentUserSessionService currentUserSessionService) {
         this.userBaseRepository = userBaseRepository;
-        this.accountUserConnectionService = accountUserConnectionService;
+        this.currentUserSessionService = currentUserSessionService;
     }
 
     /**
@@ -158,7 +156,9 @@ public class UserService {
         }
         // 3. 批量删除用户数据
         int i = userBaseRepository.batchUpdateUserStatusByIds(userBaseDTO.getIds(), UserStatusEnum.DELETE.getCode(), StpUtil.getLoginIdAsLong(), LocalDateTime.now());
-        // 4. 输出删除成功日志
+        // 4. 事务提交后移除已删除用户所绑定账户会话中的用户信息
+        currentUserSessionService.evictByUserIdsAfterCommit(userBaseDTO.getIds());
+        // 5. 输出删除成功日志
         log.info("删除用户成功,删除用户数据为 {} 条", i);
     }
 
@@ -227,7 +227,9 @@ public class UserService {
             log.error("修改用户失败,需要修改的用户数据为 {} 实际修改数据为 {}", userBaseDTOList.size(), userBases.size());
             throw new ServiceException("update.data.fail");
         }
-        // 11. 输出修改成功日志
+        // 11. 事务提交后移除已修改用户所绑定账户会话中的用户信息
+        currentUserSessionService.evictByUserIdsAfterCommit(ids);
+        // 12. 输出修改成功日志
         log.info("修改用户成功,修改用户数据为 {} 条", userBases.size());
     }
 
@@ -323,13 +325,7 @@ public class UserService {
     public UserBaseDTO getCurrentUser() {
         // 1. 获取当前登录账户 ID
         Long accountId = StpUtil.getLoginIdAsLong();
-        // 2. 通过当前登录账户 ID 查询当前账户和用户关联信息
-        AccountUserConnectionDTO accountUserConnectionDTO = accountUserConnectionService.queryUserInfoIdByAccountId(AccountUserConnectionDTO.builder().accountId(accountId).build());
-        // 3. 通过用户 ID 获取用户信息
-        if (Objects.isNull(accountUserConnectionDTO.getUserId())) {
-            return UserBaseDTO.builder().build();
-        }
-        // 4. 通过用户 ID 获取用户信息
-        return queryUserInfoById(UserBaseDTO.builder().id(accountUserConnectionDTO.getUserId()).build());
+        // 2. 优先从当前账户会话中获取用户信息, 未命中时查询数据库并保存到会话中
+        return currentUserSessionService.get(accountId);
     }
 }
@@ -0,0 +1,37 @@
+package com.ranyk.authorization.config.route;
+
+import com.ranyk.common.constant.RouteAccessEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASS_NAME: RouteSecurityTableTest.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 路由鉴权表单元测试类, 验证精确匹配规则不会放宽到其下级路径
+ * @date: 2026-10-18
+ */
+class RouteSecurityTableTest {
+
+    /**
+     * 精确匹配规则只作用于完全相同的路径, 下级路径仍按前缀匹配规则处理
+     */
+    @Test
+    void exactRuleDoesNotCoverSubPaths() {
+        RouteSecurityTable routeSecurityTable = new RouteSecurityTable(List.of(
+                RouteSecurityRule.builder().pathPrefix("/").access(RouteAccessEnum.LOGIN).build(),
+                RouteSecurityRule.builder().pathPrefix("/login").access(RouteAccessEnum.ANONYMOUS).exact(true).build(),
+                RouteSecurityRule.builder().pathPrefix("/static").access(RouteAccessEnum.ANONYMOUS).build()
+        ));
+
+        assertEquals(RouteAccessEnum.ANONYMOUS, routeSecurityTable.match("/login").getAccess());
+        assertEquals(RouteAccessEnum.ANONYMOUS, routeSecurityTable.match("/login/").getAccess());
+        assertEquals(RouteAccessEnum.LOGIN, routeSecurityTable.match("/login/admin").getAccess());
+        assertEquals(RouteAccessEnum.ANONYMOUS, routeSecurityTable.match("/static/js/app.js").getAccess());
+        assertEquals(RouteAccessEnum.LOGIN, routeSecurityTable.match("/account/list").getAccess());
+    }
+}
@@ -0,0 +1,68 @@
+package com.ranyk.authorization.service.permissions;
+
+import com.ranyk.authorization.config.properties.AuthorizationConfigurationProperties;
+import com.ranyk.authorization.repository.permissions.PermissionRepository;
+import com.ranyk.cache.bus.InvalidationBus;
+import com.ranyk.cache.epoch.LocalEpochCounter;
+import com.ranyk.model.business.permission.dto.AccountAuthorizationDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CLASS_NAME: AccountAuthorizationCacheServiceTest.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 账户授权信息缓存业务逻辑类单元测试类, 验证授权纪元递增后本节点尚未移除的缓存数据不会被返回
+ * @date: 2026-10-18
+ */
+class AccountAuthorizationCacheServiceTest {
+
+    /**
+     * 测试使用的账户 ID
+     */
+    private static final Long ACCOUNT_ID = 1L;
+    /**
+     * 账户授权信息缓存业务逻辑类对象
+     */
+    private AccountAuthorizationCacheService accountAuthorizationCacheService;
+
+    /**
+     * 构建被测对象, 缓存失效消息总线不投递消息, 模拟纪元已递增而本节点尚未收到缓存失效消息
+     */
+    @BeforeEach
+    void setUp() throws Exception {
+        AuthorizationConfigurationProperties authorizationConfigurationProperties = new AuthorizationConfigurationProperties();
+        authorizationConfigurationProperties.afterPropertiesSet();
+        accountAuthorizationCacheService = new AccountAuthorizationCacheService(authorizationConfigurationProperties,
+                mock(ApplicationEventPublisher.class),
+                mock(InvalidationBus.class),
+                new AuthorizationEpochService(new LocalEpochCounter(), new PermissionIndexRegistryService(mock(PermissionRepository.class))));
+    }
+
+    /**
+     * 同一纪元内命中缓存, 纪元递增后重新加载, 之后以旧纪元读取时不会退回旧数据
+     */
+    @Test
+    void entryOlderThanEpochIsReloaded() {
+        AtomicInteger loadCount = new AtomicInteger();
+        Function<Long, AccountAuthorizationDTO> loader = accountId -> AccountAuthorizationDTO.builder()
+                .accountId(accountId)
+                .roleCodes(Set.of("role-" + loadCount.incrementAndGet()))
+                .build();
+
+        assertEquals(Set.of("role-1"), accountAuthorizationCacheService.get(ACCOUNT_ID, 0L, loader).getRoleCodes());
+        assertEquals(Set.of("role-1"), accountAuthorizationCacheService.get(ACCOUNT_ID, 0L, loader).getRoleCodes());
+        assertEquals(Set.of("role-2"), accountAuthorizationCacheService.get(ACCOUNT_ID, 1L, loader).getRoleCodes());
+        assertEquals(Set.of("role-2"), accountAuthorizationCacheService.get(ACCOUNT_ID, 0L, loader).getRoleCodes());
+        assertEquals(2, loadCount.get());
+    }
+}
@@ -0,0 +1,103 @@
+package com.ranyk.authorization.service.permissions;
+
+import com.ranyk.authorization.repository.permissions.PermissionRepository;
+import com.ranyk.model.business.permission.dto.AccountAuthorizationDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CLASS_NAME: AccountAuthorizationServiceTest.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 账户授权信息业务逻辑类单元测试类, 验证同一请求内多次权限判断只解析一次授权信息
+ * @date: 2026-10-18
+ */
+class AccountAuthorizationServiceTest {
+
+    /**
+     * 测试使用的账户 ID
+     */
+    private static final Long ACCOUNT_ID = 1L;
+    /**
+     * 请求级账户授权信息记忆业务逻辑类对象
+     */
+    private AccountAuthorizationRequestMemoService accountAuthorizationRequestMemoService;
+    /**
+     * 授权信息快照业务逻辑类对象(模拟)
+     */
+    private AuthorizationSnapshotService authorizationSnapshotService;
+    /**
+     * 账户授权信息业务逻辑类对象
+     */
+    private AccountAuthorizationService accountAuthorizationService;
+
+    /**
+     * 构建被测对象, 授权信息由快照返回
+     */
+    @BeforeEach
+    void setUp() {
+        PermissionIndexRegistryService permissionIndexRegistryService = new PermissionIndexRegistryService(mock(PermissionRepository.class));
+        accountAuthorizationRequestMemoService = new AccountAuthorizationRequestMemoService();
+        authorizationSnapshotService = mock(AuthorizationSnapshotService.class);
+        when(authorizationSnapshotService.get(ACCOUNT_ID)).thenReturn(AccountAuthorizationDTO.builder()
+                .accountId(ACCOUNT_ID)
+                .permissionCodes(Set.of("user:list"))
+                .roleCodes(Set.of("admin"))
+                .permissionBits(permissionIndexRegistryService.toBits(Set.of("user:list")))
+                .containsWildcardPermission(false)
+                .build());
+        accountAuthorizationService = new AccountAuthorizationService(mock(PermissionsService.class),
+                mock(AccountAuthorizationCacheService.class),
+                accountAuthorizationRequestMemoService,
+                permissionIndexRegistryService,
+                authorizationSnapshotService,
+                mock(AuthorizationEpochService.class));
+    }
+
+    /**
+     * 清理当前线程绑定的请求
+     */
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    /**
+     * 同一请求内多次判断权限和角色, 授权信息只解析一次
+     */
+    @Test
+    void repeatedChecksInOneRequestResolveOnce() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        assertTrue(accountAuthorizationService.hasPermission(ACCOUNT_ID, "user:list"));
+        assertTrue(accountAuthorizationService.hasPermission(ACCOUNT_ID, "user:list"));
+        assertFalse(accountAuthorizationService.hasPermission(ACCOUNT_ID, "user:delete"));
+        assertTrue(accountAuthorizationService.hasRole(ACCOUNT_ID, "admin"));
+
+        assertEquals(1, accountAuthorizationRequestMemoService.getResolveCount());
+        verify(authorizationSnapshotService, times(1)).get(ACCOUNT_ID);
+    }
+
+    /**
+     * 不同请求各自解析一次授权信息, 请求级记忆不会跨请求复用
+     */
+    @Test
+    void eachRequestResolvesSeparately() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertTrue(accountAuthorizationService.hasPermission(ACCOUNT_ID, "user:list"));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertTrue(accountAuthorizationService.hasPermission(ACCOUNT_ID, "user:list"));
+
+        assertEquals(2, accountAuthorizationRequestMemoService.getResolveCount());
+    }
+}
@@ -0,0 +1,53 @@
+package com.ranyk.authorization.service.permissions;
+
+import cn.dev33.satoken.json.SaJsonTemplateForJackson;
+import com.ranyk.model.business.permission.dto.AccountAuthorizationDTO;
+import com.ranyk.model.business.permission.dto.AccountAuthorizationStampDTO;
+import com.ranyk.model.business.permission.dto.PermissionSegmentTrie;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASS_NAME: AccountAuthorizationStampSerializationTest.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 带授权纪元戳的账户授权信息序列化单元测试类, 验证经 Sa-Token Jackson 会话序列化往返后通配符权限仍然生效
+ * @date: 2026-10-18
+ */
+class AccountAuthorizationStampSerializationTest {
+
+    /**
+     * 经 Sa-Token Jackson 序列化往返后, 授权纪元和通配符权限字典树保持不变
+     */
+    @Test
+    void wildcardTrieSurvivesJacksonRoundTrip() {
+        AccountAuthorizationStampDTO stamp = AccountAuthorizationStampDTO.builder()
+                .epoch(3L)
+                .accountAuthorization(AccountAuthorizationDTO.builder()
+                        .accountId(1L)
+                        .permissionCodes(Set.of("query:*", "*:user:delete", "user:list"))
+                        .roleCodes(Set.of("admin"))
+                        .permissionBits(new long[]{5L})
+                        .containsWildcardPermission(true)
+                        .wildcardPermissionTrie(PermissionSegmentTrie.compile(List.of("query:*", "*:user:delete")))
+                        .build())
+                .build();
+
+        SaJsonTemplateForJackson jsonTemplate = new SaJsonTemplateForJackson();
+        Object restored = jsonTemplate.jsonToObject(jsonTemplate.objectToJson(stamp), Object.class);
+
+        AccountAuthorizationStampDTO restoredStamp = assertInstanceOf(AccountAuthorizationStampDTO.class, restored);
+        assertEquals(3L, restoredStamp.getEpoch());
+        PermissionSegmentTrie trie = restoredStamp.getAccountAuthorization().getWildcardPermissionTrie();
+        assertNotNull(trie);
+        assertTrue(trie.matches("query:user:list"));
+        assertTrue(trie.matches("system:user:delete"));
+        assertFalse(trie.matches("update:user:list"));
+        assertArrayEquals(new long[]{5L}, restoredStamp.getAccountAuthorization().getPermissionBits());
+    }
+}
@@ -0,0 +1,100 @@
+package com.ranyk.cache.bloom;
+
+import cn.hutool.core.lang.hash.MurmurHash;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * CLASS_NAME: BloomFilter.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 线程安全的进程内布隆过滤器, 判断为不存在的元素一定不存在, 判断为存在的元素可能存在(存在一定误判率);
+ * 位数组与哈希函数个数按预期元素数量和误判率计算, 元素只能添加不能移除; 哈希采用 MurmurHash 128 位结果做双重哈希
+ * @date: 2026-10-18
+ */
+public final class BloomFilter {
+
+    /**
+     * 位数组, 每个 long 保存 64 位
+     */
+    private final AtomicLongArray bits;
+    /**
+     * 位数组总位数
+     */
+    private final long bitSize;
+    /**
+     * 哈希函数个数
+     */
+    private final int hashFunctions;
+
+    /**
+     * 构造方法
+     *
+     * @param expectedInsertions 预期元素数量, 超出后误判率会逐渐升高
+     * @param fpp                期望误判率, 取值范围 (0, 1)
+     */
+    public BloomFilter(long expectedInsertions, double fpp) {
+        if (expectedInsertions <= 0 || fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("布隆过滤器预期元素数量必须大于 0 且误判率必须在 (0, 1) 之间");
+        }
+        // 1. 最优位数 m = -n * ln(p) / (ln2)^2, 按 64 位向上对齐
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min((optimalBits + 63) / 64, Integer.MAX_VALUE);
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * 64;
+        // 2. 最优哈希函数个数 k = m / n * ln2, 至少为 1
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * 添加元素
+     *
+     * @param value 元素
+     */
+    public void put(String value) {
+        long[] hash = MurmurHash.hash128(value.getBytes(StandardCharsets.UTF_8));
+        long combined = hash[0];
+        for (int i = 0; i < hashFunctions; i++) {
+            setBit((combined & Long.MAX_VALUE) % bitSize);
+            combined += hash[1];
+        }
+    }
+
+    /**
+     * 判断元素是否可能存在
+     *
+     * @param value 元素
+     * @return true: 可能存在; false: 一定不存在
+     */
+    public boolean mightContain(String value) {
+        long[] hash = MurmurHash.hash128(value.getBytes(StandardCharsets.UTF_8));
+        long combined = hash[0];
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = (combined & Long.MAX_VALUE) % bitSize;
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+            combined += hash[1];
+        }
+        return true;
+    }
+
+    /**
+     * 将指定位置为 1
+     *
+     * @param index 位索引
+     */
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+}
@@ -0,0 +1,52 @@
+package com.ranyk.cache.bus;
+
+import cn.hutool.core.collection.CollUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * CLASS_NAME: AbstractInvalidationBus.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 缓存失效消息总线抽象类, 负责维护本节点的监听器并向其投递消息
+ * @date: 2026-10-18
+ */
+@Slf4j
+public abstract class AbstractInvalidationBus implements InvalidationBus {
+
+    /**
+     * 缓存区域 -> 监听器 List 集合 映射
+     */
+    private final Map<String, List<Consumer<Set<String>>>> listenerMap = new ConcurrentHashMap<>();
+
+    @Override
+    public void subscribe(String region, Consumer<Set<String>> listener) {
+        listenerMap.computeIfAbsent(region, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * 将缓存失效消息投递给本节点订阅了该缓存区域的监听器, 单个监听器异常不影响其他监听器
+     *
+     * @param region 缓存区域
+     * @param keys   需要移除的缓存 key 集合
+     */
+    protected void dispatch(String region, Set<String> keys) {
+        if (CollUtil.isEmpty(keys)) {
+            return;
+        }
+        listenerMap.getOrDefault(region, List.of()).forEach(listener -> {
+            try {
+                listener.accept(keys);
+            } catch (Exception e) {
+                log.error("缓存失效消息处理失败, 缓存区域为: {} , 缓存 key 为: {}", region, keys, e);
+            }
+        });
+    }
+}
@@ -0,0 +1,32 @@
+package com.ranyk.cache.bus;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * CLASS_NAME: InvalidationBus.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 缓存失效消息总线接口, 某个节点发布的缓存失效消息会投递给所有节点(包含自身)上订阅了该缓存区域的监听器
+ * @date: 2026-10-18
+ */
+public interface InvalidationBus {
+
+    /**
+     * 发布缓存失效消息
+     *
+     * @param region 缓存区域
+     * @param keys   需要移除的缓存 key 集合
+     */
+    void publish(String region, Collection<String> keys);
+
+    /**
+     * 订阅指定缓存区域的缓存失效消息
+     *
+     * @param region   缓存区域
+     * @param listener 缓存失效消息监听器, 入参为需要移除的缓存 key 集合
+     */
+    void subscribe(String region, Consumer<Set<String>> listener);
+}
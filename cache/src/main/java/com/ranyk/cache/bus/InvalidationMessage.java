@@ -0,0 +1,39 @@
+package com.ranyk.cache.bus;
+
+import lombok.*;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Set;
+
+/**
+ * CLASS_NAME: InvalidationMessage.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 缓存失效消息封装对象, 在各节点之间广播需要移除的缓存区域及缓存 key
+ * @date: 2026-10-18
+ */
+@Data
+@Builder
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class InvalidationMessage implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 2291658530419073684L;
+    /**
+     * 发布消息的节点 ID
+     */
+    private String nodeId;
+    /**
+     * 缓存区域, 如 account-authorization
+     */
+    private String region;
+    /**
+     * 需要移除的缓存 key 集合
+     */
+    private Set<String> keys;
+}
@@ -0,0 +1,20 @@
+package com.ranyk.cache.bus;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * CLASS_NAME: LocalInvalidationBus.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 进程内缓存失效消息总线, 只投递给本节点的监听器, 适用于单节点部署及测试
+ * @date: 2026-10-18
+ */
+public class LocalInvalidationBus extends AbstractInvalidationBus {
+
+    @Override
+    public void publish(String region, Collection<String> keys) {
+        dispatch(region, Set.copyOf(keys));
+    }
+}
@@ -0,0 +1,76 @@
+package com.ranyk.cache.bus;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.util.IdUtil;
+import cn.hutool.json.JSONUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * CLASS_NAME: RedisInvalidationBus.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 基于 Redis 发布/订阅的缓存失效消息总线, 本节点的监听器在发布时直接投递, 其他节点通过订阅 Redis 频道接收
+ * @date: 2026-10-18
+ */
+@Slf4j
+public class RedisInvalidationBus extends AbstractInvalidationBus implements MessageListener {
+
+    /**
+     * 当前节点 ID, 用于忽略本节点发布的消息
+     */
+    private final String nodeId = IdUtil.fastSimpleUUID();
+    /**
+     * Redis 字符串操作模板对象
+     */
+    private final StringRedisTemplate stringRedisTemplate;
+    /**
+     * 缓存失效消息使用的 Redis 频道
+     */
+    private final String channel;
+
+    /**
+     * 构造函数
+     *
+     * @param stringRedisTemplate Redis 字符串操作模板对象
+     * @param channel             缓存失效消息使用的 Redis 频道
+     */
+    public RedisInvalidationBus(StringRedisTemplate stringRedisTemplate, String channel) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.channel = channel;
+    }
+
+    @Override
+    public void publish(String region, Collection<String> keys) {
+        if (CollUtil.isEmpty(keys)) {
+            return;
+        }
+        Set<String> keySet = Set.copyOf(keys);
+        // 1. 先投递给本节点的监听器
+        dispatch(region, keySet);
+        // 2. 再广播给其他节点, 广播失败时其他节点只能等待缓存自然过期
+        try {
+            stringRedisTemplate.convertAndSend(channel, JSONUtil.toJsonStr(InvalidationMessage.builder().nodeId(nodeId).region(region).keys(keySet).build()));
+        } catch (Exception e) {
+            log.error("缓存失效消息广播失败, 缓存区域为: {} , 缓存 key 为: {}", region, keySet, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        InvalidationMessage invalidationMessage = JSONUtil.toBean(new String(message.getBody(), StandardCharsets.UTF_8), InvalidationMessage.class);
+        // 本节点发布的消息已在发布时投递, 忽略
+        if (Objects.equals(nodeId, invalidationMessage.getNodeId())) {
+            return;
+        }
+        dispatch(invalidationMessage.getRegion(), invalidationMessage.getKeys());
+    }
+}
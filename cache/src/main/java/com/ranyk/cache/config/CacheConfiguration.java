@@ -1,10 +1,18 @@
 package com.ranyk.cache.config;
 
 import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ranyk.cache.bus.InvalidationBus;
 import com.ranyk.cache.config.properties.CacheConfigurationProperties;
+import com.ranyk.cache.config.properties.CacheRegionProperties;
+import com.ranyk.cache.lock.RedisLeaseLock;
+import com.ranyk.cache.refresh.CacheRefresher;
+import com.ranyk.cache.region.CacheRegion;
+import com.ranyk.cache.uitls.CacheUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -14,9 +22,15 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
 /**
  * CLASS_NAME: CacheConfiguration.java
  *
@@ -28,7 +42,7 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 @Slf4j
 @Configuration
 @EnableConfigurationProperties(CacheConfigurationProperties.class)
-@ConditionalOnProperty(name = "cache.enable", havingValue = "true", matchIfMissing = false)
+@ConditionalOnProperty(name = "cache.enabled", havingValue = "true", matchIfMissing = false)
 public class CacheConfiguration {
 
     /**
@@ -46,34 +60,13 @@ public class CacheConfiguration {
         this.cacheConfigurationProperties = cacheConfigurationProperties;
     }
 
-    /**
-     * 常规缓存,未设置指定的过期时间,如果需要设置过期时间,则需要另外配置一个缓存
-     *
-     * @return 返回构建好的缓存对象 {@link Cache}
-     */
-    @Bean("caffeineCache")
-    @ConditionalOnProperty(name = "cache.is-caffeine-enabled", havingValue = "true", matchIfMissing = false)
-    public Cache<@NonNull String, Object> caffeineCache() {
-        log.info("CaffeineCache is enabled. create Caffeine Cache Object");
-        return Caffeine.newBuilder()
-                // 初始的缓存空间大小
-                .initialCapacity(cacheConfigurationProperties.getCaffeineInitSize())
-                // 缓存的最大条数
-                .maximumSize(cacheConfigurationProperties.getCaffeineMaxSize())
-                // 缓存移除监听器
-                .removalListener((key, value, cause) -> {if (cacheConfigurationProperties.getIsOutPutLogWarn()){log.warn("caffeineCache Cache failure listening => key: {}, value: {}, cause: {}", key, value, cause);}})
-                // 开启统计功能
-                .recordStats()
-                .build();
-    }
-
     /**
      * 配置 Redis 连接工厂
      *
      * @return 返回 Redis 连接工厂对象 {@link RedisConnectionFactory}
      */
     @Bean
-    @ConditionalOnProperty(name = "cache.is-redis-enabled", havingValue = "true", matchIfMissing = false)
+    @ConditionalOnProperty(name = "cache.redis-enabled", havingValue = "true", matchIfMissing = false)
     public LettuceConnectionFactory redisFactory() {
         RedisStandaloneConfiguration redisConfiguration = new RedisStandaloneConfiguration();
         redisConfiguration.setHostName(cacheConfigurationProperties.getRedisHost());
@@ -90,7 +83,7 @@ public class CacheConfiguration {
      * @return Redis 缓存模板对象 {@link RedisTemplate}
      */
     @Bean
-    @ConditionalOnProperty(name = "cache.is-redis-enabled", havingValue = "true", matchIfMissing = false)
+    @ConditionalOnProperty(name = "cache.redis-enabled", havingValue = "true", matchIfMissing = false)
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory redisFactory) {
         log.info("RedisCache is enabled. create Redis Cache Object");
         // 创建 RedisTemplate对象
@@ -114,4 +107,106 @@ public class CacheConfiguration {
 
         return template;
     }
+
+    /**
+     * 配置缓存提前刷新执行器
+     *
+     * @return 缓存提前刷新执行器对象 {@link CacheRefresher}
+     */
+    @Bean(destroyMethod = "shutdown")
+    public CacheRefresher cacheRefresher() {
+        return new CacheRefresher(cacheConfigurationProperties.getRefreshAheadThreads(), cacheConfigurationProperties.getRefreshAheadQueueSize());
+    }
+
+    /**
+     * 配置缓存工具类, 按缓存区域配置为每个缓存区域创建独立的本地缓存, 启用 Redis 时同时创建跨节点加载使用的租约锁
+     *
+     * @param redisTemplate   Redis 缓存模板对象, 未启用时不存在
+     * @param invalidationBus 缓存失效消息总线对象
+     * @param cacheRefresher  缓存提前刷新执行器对象
+     * @return 缓存工具类对象 {@link CacheUtils}
+     */
+    @Bean
+    public CacheUtils cacheUtils(ObjectProvider<RedisTemplate<String, Object>> redisTemplate, InvalidationBus invalidationBus, CacheRefresher cacheRefresher) {
+        RedisTemplate<String, Object> template = redisTemplate.getIfAvailable();
+        Map<String, CacheRegion> regions = new LinkedHashMap<>();
+        cacheConfigurationProperties.getRegions().forEach((name, region) -> regions.put(name, buildRegion(name, region, template)));
+        RedisLeaseLock redisLeaseLock = Objects.isNull(template) ? null : new RedisLeaseLock(new StringRedisTemplate(template.getRequiredConnectionFactory()));
+        return new CacheUtils(cacheConfigurationProperties.getMode(), regions, template, redisLeaseLock, invalidationBus, cacheRefresher,
+                Duration.ofMillis(cacheConfigurationProperties.getLoadLeaseTime()), Duration.ofMillis(cacheConfigurationProperties.getLoadWaitInterval()));
+    }
+
+    /**
+     * 按缓存区域配置创建缓存区域对象
+     *
+     * @param name          缓存区域名称
+     * @param region        缓存区域配置属性对象
+     * @param redisTemplate Redis 缓存模板对象, 未启用时为 null
+     * @return 缓存区域对象 {@link CacheRegion}
+     */
+    private CacheRegion buildRegion(String name, CacheRegionProperties region, RedisTemplate<String, Object> redisTemplate) {
+        Duration redisTtl = Objects.nonNull(region.getRedisTtl()) && region.getRedisTtl() > 0 ? Duration.ofSeconds(region.getRedisTtl()) : null;
+        // 1. 缓存模式不使用本地缓存时, 只保留 Redis 命名空间和有效期
+        if (!cacheConfigurationProperties.getMode().useLocal()) {
+            return new CacheRegion(name, null, region.getRedisKeyPrefix(), redisTtl, region.getRefreshAheadRatio());
+        }
+        // 2. 按区域配置设置本地缓存容量和过期策略
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                // 初始的缓存空间大小
+                .initialCapacity(region.getInitialCapacity())
+                // 缓存移除监听器
+                .removalListener((key, value, cause) -> {if (cacheConfigurationProperties.getIsOutPutLogWarn()){log.warn("{} Cache failure listening => key: {}, value: {}, cause: {}", name, key, value, cause);}})
+                // 开启统计功能
+                .recordStats();
+        if (Objects.nonNull(region.getMaximumWeight())) {
+            builder.maximumWeight(region.getMaximumWeight()).weigher((key, value) -> weigh(value));
+        } else if (Objects.nonNull(region.getMaximumSize())) {
+            builder.maximumSize(region.getMaximumSize());
+        }
+        if (Objects.nonNull(region.getExpireAfterWrite())) {
+            builder.expireAfterWrite(Duration.ofSeconds(region.getExpireAfterWrite()));
+        }
+        if (Objects.nonNull(region.getExpireAfterAccess())) {
+            builder.expireAfterAccess(Duration.ofSeconds(region.getExpireAfterAccess()));
+        }
+        if (Objects.isNull(region.getRefreshAfterWrite())) {
+            return new CacheRegion(name, builder.build(), region.getRedisKeyPrefix(), redisTtl, region.getRefreshAheadRatio());
+        }
+        // 3. 配置了写入后刷新时, 两级缓存模式从 Redis 重新加载, 只使用本地缓存时没有数据源, 保留旧值
+        builder.refreshAfterWrite(Duration.ofSeconds(region.getRefreshAfterWrite()));
+        boolean reloadFromRedis = cacheConfigurationProperties.getMode().useRedis();
+        String redisKeyPrefix = region.getRedisKeyPrefix();
+        Cache<@NonNull String, Object> localCache = builder.build(new CacheLoader<@NonNull String, Object>() {
+            @Override
+            public Object load(@NonNull String key) {
+                return reloadFromRedis ? redisTemplate.opsForValue().get(redisKeyPrefix + key) : null;
+            }
+
+            @Override
+            public Object reload(@NonNull String key, @NonNull Object oldValue) {
+                if (!reloadFromRedis) {
+                    return oldValue;
+                }
+                Object value = load(key);
+                return Objects.isNull(value) ? oldValue : value;
+            }
+        });
+        return new CacheRegion(name, localCache, redisKeyPrefix, redisTtl, region.getRefreshAheadRatio());
+    }
+
+    /**
+     * 计算本地缓存值的权重, 字节数组和字符串按长度计算, 其余对象权重为 1
+     *
+     * @param value 缓存的值
+     * @return 权重
+     */
+    private static int weigh(Object value) {
+        if (value instanceof byte[] bytes) {
+            return Math.max(bytes.length, 1);
+        }
+        if (value instanceof CharSequence charSequence) {
+            return Math.max(charSequence.length(), 1);
+        }
+        return 1;
+    }
 }
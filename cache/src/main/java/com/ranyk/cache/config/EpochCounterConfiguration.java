@@ -0,0 +1,49 @@
+package com.ranyk.cache.config;
+
+import com.ranyk.cache.epoch.EpochCounter;
+import com.ranyk.cache.epoch.LocalEpochCounter;
+import com.ranyk.cache.epoch.RedisEpochCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * CLASS_NAME: EpochCounterConfiguration.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 纪元计数器配置类, 启用 Redis 时所有节点共享 Redis 中的计数器, 否则使用进程内计数器
+ * @date: 2026-10-18
+ */
+@Slf4j
+@Configuration
+public class EpochCounterConfiguration {
+
+    /**
+     * 创建基于 Redis 的纪元计数器
+     *
+     * @param redisConnectionFactory Redis 连接工厂对象
+     * @return 纪元计数器对象 {@link EpochCounter}
+     */
+    @Bean
+    @ConditionalOnProperty(name = "cache.redis-enabled", havingValue = "true", matchIfMissing = false)
+    public EpochCounter redisEpochCounter(RedisConnectionFactory redisConnectionFactory) {
+        log.info("Redis epoch counter is enabled.");
+        return new RedisEpochCounter(new StringRedisTemplate(redisConnectionFactory));
+    }
+
+    /**
+     * 创建进程内纪元计数器, 未启用 Redis 时使用
+     *
+     * @return 纪元计数器对象 {@link EpochCounter}
+     */
+    @Bean
+    @ConditionalOnProperty(name = "cache.redis-enabled", havingValue = "false", matchIfMissing = true)
+    public EpochCounter localEpochCounter() {
+        log.info("Local epoch counter is enabled.");
+        return new LocalEpochCounter();
+    }
+}
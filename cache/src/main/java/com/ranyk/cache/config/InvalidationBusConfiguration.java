@@ -0,0 +1,84 @@
+package com.ranyk.cache.config;
+
+import com.ranyk.cache.bus.InvalidationBus;
+import com.ranyk.cache.bus.LocalInvalidationBus;
+import com.ranyk.cache.bus.RedisInvalidationBus;
+import com.ranyk.cache.config.properties.CacheConfigurationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * CLASS_NAME: InvalidationBusConfiguration.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 缓存失效消息总线配置类, 启用 Redis 时使用 Redis 发布/订阅在节点之间广播, 否则使用进程内实现
+ * @date: 2026-10-18
+ */
+@Slf4j
+@Configuration
+public class InvalidationBusConfiguration {
+
+    /**
+     * 缓存配置属性对象
+     */
+    private final CacheConfigurationProperties cacheConfigurationProperties;
+
+    /**
+     * 构造方法
+     *
+     * @param cacheConfigurationProperties 缓存配置属性对象
+     */
+    @Autowired
+    public InvalidationBusConfiguration(CacheConfigurationProperties cacheConfigurationProperties) {
+        this.cacheConfigurationProperties = cacheConfigurationProperties;
+    }
+
+    /**
+     * 创建基于 Redis 发布/订阅的缓存失效消息总线
+     *
+     * @param redisConnectionFactory Redis 连接工厂对象
+     * @return 缓存失效消息总线对象 {@link InvalidationBus}
+     */
+    @Bean
+    @ConditionalOnProperty(name = "cache.redis-enabled", havingValue = "true", matchIfMissing = false)
+    public RedisInvalidationBus redisInvalidationBus(RedisConnectionFactory redisConnectionFactory) {
+        log.info("Redis invalidation bus is enabled. channel: {}", cacheConfigurationProperties.getInvalidationChannel());
+        return new RedisInvalidationBus(new StringRedisTemplate(redisConnectionFactory), cacheConfigurationProperties.getInvalidationChannel());
+    }
+
+    /**
+     * 创建缓存失效消息 Redis 频道监听容器
+     *
+     * @param redisConnectionFactory Redis 连接工厂对象
+     * @param redisInvalidationBus   基于 Redis 发布/订阅的缓存失效消息总线
+     * @return Redis 消息监听容器对象 {@link RedisMessageListenerContainer}
+     */
+    @Bean
+    @ConditionalOnProperty(name = "cache.redis-enabled", havingValue = "true", matchIfMissing = false)
+    public RedisMessageListenerContainer invalidationListenerContainer(RedisConnectionFactory redisConnectionFactory, RedisInvalidationBus redisInvalidationBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(redisInvalidationBus, new ChannelTopic(cacheConfigurationProperties.getInvalidationChannel()));
+        return container;
+    }
+
+    /**
+     * 创建进程内缓存失效消息总线, 未启用 Redis 时使用
+     *
+     * @return 缓存失效消息总线对象 {@link InvalidationBus}
+     */
+    @Bean
+    @ConditionalOnProperty(name = "cache.redis-enabled", havingValue = "false", matchIfMissing = true)
+    public LocalInvalidationBus localInvalidationBus() {
+        log.info("Local invalidation bus is enabled.");
+        return new LocalInvalidationBus();
+    }
+}
@@ -0,0 +1,60 @@
+package com.ranyk.cache.config;
+
+import com.ranyk.cache.limiter.LocalTokenBucketRateLimiter;
+import com.ranyk.cache.limiter.RateLimiter;
+import com.ranyk.cache.limiter.RedisTokenBucketRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * CLASS_NAME: RateLimiterConfiguration.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 令牌桶限流器配置类, 启用 Redis 时所有节点共享 Redis 中的令牌桶, 否则使用进程内令牌桶
+ * @date: 2026-10-18
+ */
+@Slf4j
+@Configuration
+public class RateLimiterConfiguration {
+
+    /**
+     * 进程内最多保存的令牌桶数量
+     */
+    private static final long LOCAL_MAX_BUCKETS = 100_000L;
+    /**
+     * 进程内令牌桶未访问多久后移除
+     */
+    private static final Duration LOCAL_IDLE_EXPIRATION = Duration.ofHours(1);
+
+    /**
+     * 创建基于 Redis Lua 脚本的令牌桶限流器
+     *
+     * @param redisConnectionFactory Redis 连接工厂对象
+     * @return 令牌桶限流器对象 {@link RateLimiter}
+     */
+    @Bean
+    @ConditionalOnProperty(name = "cache.redis-enabled", havingValue = "true", matchIfMissing = false)
+    public RateLimiter redisRateLimiter(RedisConnectionFactory redisConnectionFactory) {
+        log.info("Redis rate limiter is enabled.");
+        return new RedisTokenBucketRateLimiter(new StringRedisTemplate(redisConnectionFactory));
+    }
+
+    /**
+     * 创建进程内令牌桶限流器, 未启用 Redis 时使用
+     *
+     * @return 令牌桶限流器对象 {@link RateLimiter}
+     */
+    @Bean
+    @ConditionalOnProperty(name = "cache.redis-enabled", havingValue = "false", matchIfMissing = true)
+    public RateLimiter localRateLimiter() {
+        log.info("Local rate limiter is enabled.");
+        return new LocalTokenBucketRateLimiter(LOCAL_MAX_BUCKETS, LOCAL_IDLE_EXPIRATION);
+    }
+}
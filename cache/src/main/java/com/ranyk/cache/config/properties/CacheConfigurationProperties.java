@@ -1,12 +1,15 @@
 package com.ranyk.cache.config.properties;
 
 import cn.hutool.core.util.StrUtil;
+import com.ranyk.common.constant.CacheModeEnum;
 import lombok.Data;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -21,6 +24,10 @@ import java.util.Objects;
 @Component
 @ConfigurationProperties(prefix = "cache")
 public class CacheConfigurationProperties implements InitializingBean {
+    /**
+     * 默认缓存区域名称, 未配置该区域时使用 Caffeine 本地缓存的初始化大小和最大缓存条数自动创建
+     */
+    public static final String DEFAULT_REGION = "default";
     /**
      * 是否启用 Caffeine 本地缓存
      */
@@ -57,6 +64,42 @@ public class CacheConfigurationProperties implements InitializingBean {
      * 使用 Redis 作为缓存时的 redis 缓存数据库索引
      */
     private Integer redisDatabase;
+    /**
+     * 缓存工具类使用的缓存模式, local: 只使用本地缓存; redis: 只使用 Redis 缓存; tiered: 本地缓存作为一级缓存, Redis 缓存作为二级缓存
+     */
+    private CacheModeEnum mode;
+    /**
+     * 缓存区域配置, key 为缓存区域名称, 缓存工具类的每次操作都需要指定缓存区域
+     */
+    private Map<String, CacheRegionProperties> regions;
+    /**
+     * 缓存未命中时跨节点加载的 Redis 租约锁租约时间(单位: 毫秒), 也是其他节点等待加载结果的最长时间
+     */
+    private Long loadLeaseTime;
+    /**
+     * 缓存未命中时其他节点等待加载结果的轮询间隔(单位: 毫秒)
+     */
+    private Long loadWaitInterval;
+    /**
+     * 缓存提前刷新线程数
+     */
+    private Integer refreshAheadThreads;
+    /**
+     * 缓存提前刷新任务等待队列长度, 队列已满时放弃刷新
+     */
+    private Integer refreshAheadQueueSize;
+    /**
+     * 缓存失效消息使用的 Redis 频道
+     */
+    private String invalidationChannel;
+    /**
+     * 启用 Redis 保存 Sa-Token 会话时, token 本地近端缓存的有效期(单位: 秒)
+     */
+    private Long tokenNearCacheTtl;
+    /**
+     * 启用 Redis 保存 Sa-Token 会话时, token 本地近端缓存的最大条数
+     */
+    private Long tokenNearCacheMaxSize;
 
 
     /**
@@ -88,6 +131,19 @@ public class CacheConfigurationProperties implements InitializingBean {
             this.redisEnabled = Boolean.FALSE;
         }
 
+        // 未配置缓存模式时,启用 redis 缓存则只使用 redis 缓存,否则只使用 caffeine 本地缓存
+        if (Objects.isNull(mode)){
+            this.mode = redisEnabled ? CacheModeEnum.REDIS : CacheModeEnum.LOCAL;
+        }
+        // 缓存模式需要 redis 缓存但未启用 redis 缓存时,只使用 caffeine 本地缓存
+        if (mode.useRedis() && !redisEnabled){
+            this.mode = CacheModeEnum.LOCAL;
+        }
+        // 缓存模式需要 caffeine 本地缓存时,启用 caffeine 本地缓存
+        if (mode.useLocal()){
+            this.caffeineEnabled = Boolean.TRUE;
+        }
+
         // 当配置为使用 Caffeine 进行缓存时,进行参数判断
         if (caffeineEnabled){
             // 未配置 Caffeine 初始化缓存大小时,使用默认值 100
@@ -123,5 +179,70 @@ public class CacheConfigurationProperties implements InitializingBean {
                 this.redisDatabase = 0;
             }
         }
+
+        // 未配置缓存区域时,使用空的缓存区域配置
+        if (Objects.isNull(regions)){
+            this.regions = new LinkedHashMap<>();
+        }
+        // 未配置默认缓存区域时,自动创建默认缓存区域
+        this.regions.putIfAbsent(DEFAULT_REGION, new CacheRegionProperties());
+        // 对每个缓存区域进行参数判断
+        regions.forEach((name, region) -> {
+            // 未配置本地缓存初始化大小时,使用 Caffeine 本地缓存初始化大小
+            if (Objects.isNull(region.getInitialCapacity())){
+                region.setInitialCapacity(caffeineInitSize);
+            }
+            // 未配置本地缓存最大缓存条数和最大权重时,使用 Caffeine 本地缓存最大缓存条数
+            if (Objects.isNull(region.getMaximumSize()) && Objects.isNull(region.getMaximumWeight()) && Objects.nonNull(caffeineMaxSize)){
+                region.setMaximumSize(caffeineMaxSize.longValue());
+            }
+            // 未配置 Redis key 前缀时,使用默认值 "cache:{区域名称}:"
+            if (StrUtil.isBlank(region.getRedisKeyPrefix())){
+                region.setRedisKeyPrefix("cache:" + name + ":");
+            }
+            // 未配置 Redis 有效期时,与本地缓存写入后过期时间相同
+            if (Objects.isNull(region.getRedisTtl())){
+                region.setRedisTtl(region.getExpireAfterWrite());
+            }
+            // 提前刷新比例不在 (0, 1) 范围内时,不提前刷新
+            if (Objects.nonNull(region.getRefreshAheadRatio()) && (region.getRefreshAheadRatio() <= 0 || region.getRefreshAheadRatio() >= 1)){
+                region.setRefreshAheadRatio(null);
+            }
+        });
+
+        // 未配置跨节点加载租约时间时,使用默认值 3000 毫秒
+        if (Objects.isNull(loadLeaseTime)){
+            this.loadLeaseTime = 3000L;
+        }
+
+        // 未配置跨节点加载等待轮询间隔时,使用默认值 50 毫秒
+        if (Objects.isNull(loadWaitInterval)){
+            this.loadWaitInterval = 50L;
+        }
+
+        // 未配置缓存提前刷新线程数时,使用默认值 2
+        if (Objects.isNull(refreshAheadThreads)){
+            this.refreshAheadThreads = 2;
+        }
+
+        // 未配置缓存提前刷新任务等待队列长度时,使用默认值 100
+        if (Objects.isNull(refreshAheadQueueSize)){
+            this.refreshAheadQueueSize = 100;
+        }
+
+        // 未配置缓存失效消息频道时,使用默认值 "cache:invalidation"
+        if (StrUtil.isBlank(invalidationChannel)){
+            this.invalidationChannel = "cache:invalidation";
+        }
+
+        // 未配置 token 近端缓存有效期时,使用默认值 5 秒
+        if (Objects.isNull(tokenNearCacheTtl)){
+            this.tokenNearCacheTtl = 5L;
+        }
+
+        // 未配置 token 近端缓存最大条数时,使用默认值 10000
+        if (Objects.isNull(tokenNearCacheMaxSize)){
+            this.tokenNearCacheMaxSize = 10000L;
+        }
     }
 }
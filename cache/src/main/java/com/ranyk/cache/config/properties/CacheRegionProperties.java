@@ -0,0 +1,52 @@
+package com.ranyk.cache.config.properties;
+
+import lombok.Data;
+
+/**
+ * CLASS_NAME: CacheRegionProperties.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 缓存区域配置属性对象, 对应 cache.regions.{区域名称} 下的配置, 每个缓存区域拥有独立的本地缓存容量、过期策略以及 Redis key 命名空间和有效期
+ * @date: 2026-10-18
+ */
+@Data
+public class CacheRegionProperties {
+    /**
+     * 本地缓存初始化大小
+     */
+    private Integer initialCapacity;
+    /**
+     * 本地缓存最大缓存条数, 与最大权重同时配置时以最大权重为准
+     */
+    private Long maximumSize;
+    /**
+     * 本地缓存最大权重, 字节数组和字符串按长度计算权重, 其余对象权重为 1
+     */
+    private Long maximumWeight;
+    /**
+     * 本地缓存写入后过期时间(单位: 秒), 未配置时写入后不过期
+     */
+    private Long expireAfterWrite;
+    /**
+     * 本地缓存最后访问后过期时间(单位: 秒), 未配置时访问后不过期
+     */
+    private Long expireAfterAccess;
+    /**
+     * 本地缓存写入后刷新时间(单位: 秒), 超过该时间后的首次访问在后台重新加载, 重新加载完成前返回旧值; 未配置时不刷新
+     */
+    private Long refreshAfterWrite;
+    /**
+     * 提前刷新比例, 取值范围 (0, 1); 通过带加载函数的获取方法读取的数据存活时间超过有效期的该比例后, 读取时在后台重新加载, 重新加载完成前返回旧值;
+     * 本地缓存以写入后过期时间为有效期, 只使用 Redis 缓存时以 Redis 有效期为有效期; 未配置时不提前刷新
+     */
+    private Double refreshAheadRatio;
+    /**
+     * 该缓存区域在 Redis 中的 key 前缀, 未配置时为 cache:{区域名称}:
+     */
+    private String redisKeyPrefix;
+    /**
+     * 该缓存区域在 Redis 中的有效期(单位: 秒), 未配置时与本地缓存写入后过期时间相同, 小于等于 0 时不过期
+     */
+    private Long redisTtl;
+}
@@ -0,0 +1,23 @@
+package com.ranyk.cache.dao;
+
+import cn.dev33.satoken.dao.SaTokenDao;
+
+import java.util.Collection;
+
+/**
+ * CLASS_NAME: BatchDeleteSaTokenDao.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 支持批量删除的 SaTokenDao 接口, 实现类在一次操作内删除多个 key, 用于批量踢出多个账户的全部登录会话
+ * @date: 2026-10-18
+ */
+public interface BatchDeleteSaTokenDao extends SaTokenDao {
+
+    /**
+     * 批量删除指定的 key, 不存在的 key 忽略
+     *
+     * @param keys 需要删除的键名称集合
+     */
+    void deleteAll(Collection<String> keys);
+}
@@ -0,0 +1,26 @@
+package com.ranyk.cache.dao;
+
+import cn.dev33.satoken.dao.SaTokenDao;
+import cn.dev33.satoken.session.SaSession;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * CLASS_NAME: BatchGetSessionSaTokenDao.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 支持批量获取会话的 SaTokenDao 接口, 实现类在一次操作内读取多个会话, 用于批量踢出多个账户时收集各账户的登录终端
+ * @date: 2026-10-18
+ */
+public interface BatchGetSessionSaTokenDao extends SaTokenDao {
+
+    /**
+     * 批量获取指定的会话, 不存在的会话忽略
+     *
+     * @param sessionIds 会话 ID 集合
+     * @return 会话对象, key 为会话 ID, 不存在的会话不包含在内
+     */
+    Map<String, SaSession> getSessionAll(Collection<String> sessionIds);
+}
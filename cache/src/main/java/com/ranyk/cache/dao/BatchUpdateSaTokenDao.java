@@ -0,0 +1,23 @@
+package com.ranyk.cache.dao;
+
+import cn.dev33.satoken.dao.SaTokenDao;
+
+import java.util.Map;
+
+/**
+ * CLASS_NAME: BatchUpdateSaTokenDao.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 支持批量修改的 SaTokenDao 接口, 实现类在一次操作内修改多个已存在的 key-value 键值对, 过期时间均保持不变
+ * @date: 2026-10-18
+ */
+public interface BatchUpdateSaTokenDao extends SaTokenDao {
+
+    /**
+     * 批量修改已存在的 key-value 键值对 (过期时间不变), 不存在的 key 忽略
+     *
+     * @param keyValues 需要修改的键值对, key 为键名称, value 为值
+     */
+    void updateAll(Map<String, String> keyValues);
+}
@@ -0,0 +1,136 @@
+package com.ranyk.cache.dao;
+
+import java.util.function.Consumer;
+
+/**
+ * CLASS_NAME: HierarchicalTimingWheel.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 分层时间轮, 以秒为最小刻度, 共 4 层, 每层 60 个槽位, 可覆盖约 150 天; 挂载、摘除条目为 O(1),
+ * 每推进一个刻度只处理当前刻度对应的槽位, 高层槽位到期时将其中条目降级挂载到低层, 不存在全量扫描
+ * @date: 2026-10-18
+ */
+final class HierarchicalTimingWheel {
+
+    /**
+     * 每层槽位数
+     */
+    private static final int WHEEL_SIZE = 60;
+    /**
+     * 层数
+     */
+    private static final int LEVELS = 4;
+    /**
+     * 各层单个槽位代表的刻度数, 第 n 层为 60 的 n 次方
+     */
+    private static final long[] LEVEL_UNITS = {1L, 60L, 3_600L, 216_000L};
+    /**
+     * 时间轮可直接容纳的最大刻度跨度, 超出部分先挂载到最高层最远槽位, 到期降级时再重新计算
+     */
+    private static final long MAX_SPAN = LEVEL_UNITS[LEVELS - 1] * WHEEL_SIZE;
+    /**
+     * 各层槽位
+     */
+    private final TimingWheelBucket[][] buckets = new TimingWheelBucket[LEVELS][WHEEL_SIZE];
+    /**
+     * 当前已推进到的刻度(秒)
+     */
+    private volatile long currentTick;
+
+    /**
+     * 构造方法
+     *
+     * @param now 当前时间(毫秒时间戳)
+     */
+    HierarchicalTimingWheel(long now) {
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+                buckets[level][slot] = new TimingWheelBucket();
+            }
+        }
+        this.currentTick = now / 1000;
+    }
+
+    /**
+     * 将缓存条目按其过期时间挂载到对应槽位, 已挂载在其他槽位时先摘除; 永不过期的条目只摘除不挂载
+     *
+     * @param entry 缓存条目
+     */
+    void schedule(TimingWheelEntry entry) {
+        cancel(entry);
+        if (entry.expireAt == Long.MAX_VALUE) {
+            return;
+        }
+        // 1. 计算到期刻度, 不足一秒向上取整; 已到期的条目挂载到下一个刻度
+        long tick = currentTick;
+        long deadlineTick = Math.max((entry.expireAt + 999) / 1000, tick + 1);
+        // 2. 超出时间轮跨度的条目先挂载到最高层能容纳的最远位置
+        long placeTick = Math.min(deadlineTick, tick + MAX_SPAN - 1);
+        // 3. 按与当前刻度的差值选择层级, 差值越大层级越高
+        long delta = placeTick - tick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= LEVEL_UNITS[level + 1]) {
+            level++;
+        }
+        TimingWheelBucket bucket = buckets[level][(int) ((placeTick / LEVEL_UNITS[level]) % WHEEL_SIZE)];
+        entry.bucket = bucket;
+        bucket.add(entry);
+    }
+
+    /**
+     * 将缓存条目从其挂载的槽位中摘除
+     *
+     * @param entry 缓存条目
+     */
+    void cancel(TimingWheelEntry entry) {
+        TimingWheelBucket bucket = entry.bucket;
+        if (bucket != null) {
+            entry.bucket = null;
+            bucket.remove(entry);
+        }
+    }
+
+    /**
+     * 将时间轮推进到指定时间, 依次处理经过的每个刻度; 到期条目交给回调处理, 未到期条目降级挂载
+     *
+     * @param now   当前时间(毫秒时间戳)
+     * @param onDue 条目到期回调
+     */
+    void advance(long now, Consumer<TimingWheelEntry> onDue) {
+        long targetTick = now / 1000;
+        for (long tick = currentTick + 1; tick <= targetTick; tick++) {
+            currentTick = tick;
+            // 1. 由高到低处理本刻度需要降级的高层槽位
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if (tick % LEVEL_UNITS[level] == 0) {
+                    flush(buckets[level][(int) ((tick / LEVEL_UNITS[level]) % WHEEL_SIZE)], tick, onDue);
+                }
+            }
+            // 2. 处理最底层当前刻度的槽位
+            flush(buckets[0][(int) (tick % WHEEL_SIZE)], tick, onDue);
+        }
+    }
+
+    /**
+     * 清空槽位, 到期条目交给回调处理, 未到期条目重新挂载
+     *
+     * @param bucket 槽位
+     * @param tick   当前刻度
+     * @param onDue  条目到期回调
+     */
+    private void flush(TimingWheelBucket bucket, long tick, Consumer<TimingWheelEntry> onDue) {
+        for (TimingWheelEntry entry : bucket.drain()) {
+            // 条目已被并发移动到其他槽位时跳过, 由新槽位负责
+            if (entry.bucket != bucket) {
+                continue;
+            }
+            entry.bucket = null;
+            if (entry.expireAt <= tick * 1000) {
+                onDue.accept(entry);
+            } else {
+                schedule(entry);
+            }
+        }
+    }
+}
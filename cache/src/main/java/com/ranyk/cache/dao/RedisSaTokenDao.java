@@ -0,0 +1,300 @@
+package com.ranyk.cache.dao;
+
+import cn.dev33.satoken.SaManager;
+import cn.dev33.satoken.dao.auto.SaTokenDaoByObjectFollowString;
+import cn.dev33.satoken.session.SaSession;
+import cn.dev33.satoken.strategy.SaStrategy;
+import cn.dev33.satoken.util.SaFoxUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ranyk.cache.bus.InvalidationBus;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * CLASS_NAME: RedisSaTokenDao.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 基于 Redis 的 SaTokenDao 实现, 会话数据保存在 Redis 中, 任意节点都可校验 token;
+ * token -> 登录 ID 的映射前置一层短有效期的 Caffeine 本地近端缓存, 避免每次请求校验 token 都访问 Redis;
+ * 映射被修改或删除(注销、踢人下线、顶人下线)时通过缓存失效消息总线通知所有节点移除近端缓存; 对象数据由 Sa-Token 序列化为字符串后保存
+ * @date: 2026-10-18
+ */
+@Slf4j
+public class RedisSaTokenDao implements SaTokenDaoByObjectFollowString, BatchUpdateSaTokenDao, BatchDeleteSaTokenDao, BatchGetSessionSaTokenDao {
+
+    /**
+     * token 近端缓存在缓存失效消息总线中的缓存区域
+     */
+    public static final String INVALIDATION_REGION = "sa-token-token";
+    /**
+     * token -> 登录 ID 映射 key 中的标识片段, 形如 {tokenName}:{loginType}:token:{tokenValue}
+     */
+    private static final String TOKEN_KEY_MARKER = ":token:";
+    /**
+     * Redis 缓存模板对象
+     */
+    private final RedisTemplate<String, Object> redisTemplate;
+    /**
+     * 缓存失效消息总线对象
+     */
+    private final InvalidationBus invalidationBus;
+    /**
+     * token -> 登录 ID 近端缓存
+     */
+    private final Cache<@NonNull String, String> tokenNearCache;
+
+    /**
+     * 构造方法
+     *
+     * @param redisTemplate    Redis 缓存模板对象
+     * @param invalidationBus  缓存失效消息总线对象
+     * @param nearCacheTtl     近端缓存有效期(单位: 秒)
+     * @param nearCacheMaxSize 近端缓存最大条数
+     */
+    public RedisSaTokenDao(RedisTemplate<String, Object> redisTemplate, InvalidationBus invalidationBus, long nearCacheTtl, long nearCacheMaxSize) {
+        this.redisTemplate = redisTemplate;
+        this.invalidationBus = invalidationBus;
+        this.tokenNearCache = Caffeine.newBuilder()
+                // 缓存的最大条数
+                .maximumSize(nearCacheMaxSize)
+                // 写入后超过指定时间自动失效, 限制近端缓存与 Redis 的最大不一致时间
+                .expireAfterWrite(Duration.ofSeconds(nearCacheTtl))
+                // 开启统计功能
+                .recordStats()
+                .build();
+        // 订阅 token 近端缓存失效消息, 包含本节点和其他节点发布的消息
+        invalidationBus.subscribe(INVALIDATION_REGION, tokenNearCache::invalidateAll);
+    }
+
+    /**
+     * 获取 value, 如无返空; token -> 登录 ID 映射优先从近端缓存中获取
+     *
+     * @param key 键名称
+     * @return value
+     */
+    @Override
+    public String get(String key) {
+        if (isTokenKey(key)) {
+            // 近端缓存不保存 null 值, 不存在的 token 每次都会查询 Redis
+            return tokenNearCache.get(key, this::getFromRedis);
+        }
+        return getFromRedis(key);
+    }
+
+    /**
+     * 写入 value, 并设定存活时间 (单位: 秒)
+     *
+     * @param key     键名称
+     * @param value   值
+     * @param timeout 存活时间 (值大于0时限时存储, 值=-1时永久存储, 值=0或小于-2时不存储)
+     */
+    @Override
+    public void set(String key, String value, long timeout) {
+        if (timeout == 0 || timeout <= NOT_VALUE_EXPIRE) {
+            return;
+        }
+        if (timeout == NEVER_EXPIRE) {
+            redisTemplate.opsForValue().set(key, value);
+        } else {
+            redisTemplate.opsForValue().set(key, value, timeout, TimeUnit.SECONDS);
+        }
+        // 新写入的 token 其他节点尚未缓存, 只移除本节点的近端缓存
+        if (isTokenKey(key)) {
+            tokenNearCache.invalidate(key);
+        }
+    }
+
+    /**
+     * 修改指定 key-value 键值对 (过期时间不变)
+     *
+     * @param key   键名称
+     * @param value 值
+     */
+    @Override
+    public void update(String key, String value) {
+        long expire = getTimeout(key);
+        if (expire == NOT_VALUE_EXPIRE) {
+            return;
+        }
+        set(key, value, expire);
+        // token 被踢人下线、顶人下线时会修改映射值, 需要通知所有节点
+        invalidateEverywhere(key);
+    }
+
+    /**
+     * 批量修改已存在的 key-value 键值对 (过期时间不变), 不存在的 key 忽略; 通过 Redis 管道一次发送全部 SET XX KEEPTTL 命令
+     *
+     * @param keyValues 需要修改的键值对, key 为键名称, value 为值
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void updateAll(Map<String, String> keyValues) {
+        if (keyValues.isEmpty()) {
+            return;
+        }
+        RedisSerializer<String> keySerializer = (RedisSerializer<String>) redisTemplate.getKeySerializer();
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            keyValues.forEach((key, value) -> connection.stringCommands().set(
+                    Objects.requireNonNull(keySerializer.serialize(key)),
+                    Objects.requireNonNull(valueSerializer.serialize(value)),
+                    Expiration.keepTtl(),
+                    RedisStringCommands.SetOption.SET_IF_PRESENT));
+            return null;
+        });
+        // 批量修改的 key 中包含 token 映射时, 同样需要通知所有节点
+        Set<String> tokenKeys = keyValues.keySet().stream().filter(this::isTokenKey).collect(Collectors.toSet());
+        if (!tokenKeys.isEmpty()) {
+            invalidationBus.publish(INVALIDATION_REGION, tokenKeys);
+        }
+    }
+
+    /**
+     * 删除 value
+     *
+     * @param key 键名称
+     */
+    @Override
+    public void delete(String key) {
+        redisTemplate.delete(key);
+        // token 注销时会删除映射, 需要通知所有节点
+        invalidateEverywhere(key);
+    }
+
+    /**
+     * 批量删除指定的 key, 不存在的 key 忽略; 通过一条 Redis DEL 命令删除全部 key
+     *
+     * @param keys 需要删除的键名称集合
+     */
+    @Override
+    public void deleteAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        redisTemplate.delete(keys);
+        // 批量删除的 key 中包含 token 映射时, 一次通知所有节点
+        Set<String> tokenKeys = keys.stream().filter(this::isTokenKey).collect(Collectors.toSet());
+        if (!tokenKeys.isEmpty()) {
+            invalidationBus.publish(INVALIDATION_REGION, tokenKeys);
+        }
+    }
+
+    /**
+     * 批量获取指定的会话, 不存在的会话忽略; 通过一条 Redis MGET 命令读取全部会话后由 Sa-Token 反序列化
+     *
+     * @param sessionIds 会话 ID 集合
+     * @return 会话对象, key 为会话 ID, 不存在的会话不包含在内
+     */
+    @Override
+    public Map<String, SaSession> getSessionAll(Collection<String> sessionIds) {
+        List<String> sessionIdList = List.copyOf(new LinkedHashSet<>(sessionIds));
+        Map<String, SaSession> sessionMap = new HashMap<>();
+        if (sessionIdList.isEmpty()) {
+            return sessionMap;
+        }
+        List<Object> values = redisTemplate.opsForValue().multiGet(sessionIdList);
+        if (Objects.isNull(values)) {
+            return sessionMap;
+        }
+        for (int i = 0; i < sessionIdList.size(); i++) {
+            if (Objects.nonNull(values.get(i))) {
+                sessionMap.put(sessionIdList.get(i), (SaSession) SaManager.getSaSerializerTemplate().stringToObject(values.get(i).toString(), SaStrategy.instance.sessionClassType));
+            }
+        }
+        return sessionMap;
+    }
+
+    /**
+     * 获取 value 的剩余存活时间 (单位: 秒)
+     *
+     * @param key 指定键
+     * @return 这个键的剩余存活时间
+     */
+    @Override
+    public long getTimeout(String key) {
+        Long expire = redisTemplate.getExpire(key);
+        return Objects.isNull(expire) ? NOT_VALUE_EXPIRE : expire;
+    }
+
+    /**
+     * 修改 value 的剩余存活时间 (单位: 秒)
+     *
+     * @param key     指定键
+     * @param timeout 过期时间
+     */
+    @Override
+    public void updateTimeout(String key, long timeout) {
+        if (timeout == NEVER_EXPIRE) {
+            redisTemplate.persist(key);
+            return;
+        }
+        redisTemplate.expire(key, timeout, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 搜索数据
+     *
+     * @param prefix   前缀
+     * @param keyword  关键字
+     * @param start    开始处索引
+     * @param size     获取数量 (-1代表从 start 处一直取到末尾)
+     * @param sortType 排序类型（true=正序，false=反序）
+     * @return 查询到的数据集合
+     */
+    @Override
+    public List<String> searchData(String prefix, String keyword, int start, int size, boolean sortType) {
+        Set<String> keys = redisTemplate.keys(prefix + "*" + keyword + "*");
+        return SaFoxUtil.searchList(new ArrayList<>(Objects.isNull(keys) ? Set.of() : keys), start, size, sortType);
+    }
+
+    /**
+     * 从 Redis 中获取 value
+     *
+     * @param key 键名称
+     * @return value, 不存在时为 null
+     */
+    private String getFromRedis(String key) {
+        Object value = redisTemplate.opsForValue().get(key);
+        return Objects.isNull(value) ? null : value.toString();
+    }
+
+    /**
+     * 通过缓存失效消息总线通知所有节点(包含本节点)移除指定 key 的近端缓存
+     *
+     * @param key 键名称
+     */
+    private void invalidateEverywhere(String key) {
+        if (isTokenKey(key)) {
+            invalidationBus.publish(INVALIDATION_REGION, Set.of(key));
+        }
+    }
+
+    /**
+     * 判断是否为 token -> 登录 ID 映射 key
+     *
+     * @param key 键名称
+     * @return true: 是; false: 否
+     */
+    private boolean isTokenKey(String key) {
+        return key.contains(TOKEN_KEY_MARKER);
+    }
+}
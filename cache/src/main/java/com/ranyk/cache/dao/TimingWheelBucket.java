@@ -0,0 +1,51 @@
+package com.ranyk.cache.dao;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CLASS_NAME: TimingWheelBucket.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 时间轮槽位, 保存到期时间落在该槽位的缓存条目, 挂载和摘除均为 O(1)
+ * @date: 2026-10-18
+ */
+final class TimingWheelBucket {
+
+    /**
+     * 槽位中的缓存条目集合, 条目未重写 equals/hashCode, 按对象身份区分
+     */
+    private final Set<TimingWheelEntry> entries = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 挂载缓存条目
+     *
+     * @param entry 缓存条目
+     */
+    void add(TimingWheelEntry entry) {
+        entries.add(entry);
+    }
+
+    /**
+     * 摘除缓存条目
+     *
+     * @param entry 缓存条目
+     */
+    void remove(TimingWheelEntry entry) {
+        entries.remove(entry);
+    }
+
+    /**
+     * 取出槽位中的全部缓存条目, 取出后槽位为空
+     *
+     * @return 槽位中的缓存条目
+     */
+    TimingWheelEntry[] drain() {
+        TimingWheelEntry[] drained = entries.toArray(new TimingWheelEntry[0]);
+        for (TimingWheelEntry entry : drained) {
+            entries.remove(entry);
+        }
+        return drained;
+    }
+}
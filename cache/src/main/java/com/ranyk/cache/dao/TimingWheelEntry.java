@@ -0,0 +1,52 @@
+package com.ranyk.cache.dao;
+
+/**
+ * CLASS_NAME: TimingWheelEntry.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 时间轮缓存条目, 同时作为时间轮中的定时节点; 值可原地更新, 过期时间变更时由时间轮重新挂载到新的槽位
+ * @date: 2026-10-18
+ */
+final class TimingWheelEntry {
+
+    /**
+     * 缓存 key
+     */
+    final String key;
+    /**
+     * 缓存值
+     */
+    volatile Object value;
+    /**
+     * 过期时间点(毫秒时间戳), 永不过期时为 {@link Long#MAX_VALUE}
+     */
+    volatile long expireAt;
+    /**
+     * 当前挂载的时间轮槽位, 未挂载时为 null
+     */
+    volatile TimingWheelBucket bucket;
+
+    /**
+     * 构造方法
+     *
+     * @param key      缓存 key
+     * @param value    缓存值
+     * @param expireAt 过期时间点(毫秒时间戳)
+     */
+    TimingWheelEntry(String key, Object value, long expireAt) {
+        this.key = key;
+        this.value = value;
+        this.expireAt = expireAt;
+    }
+
+    /**
+     * 判断条目在指定时间点是否已过期
+     *
+     * @param now 当前时间(毫秒时间戳)
+     * @return true: 已过期; false: 未过期
+     */
+    boolean isExpired(long now) {
+        return expireAt <= now;
+    }
+}
@@ -0,0 +1,284 @@
+package com.ranyk.cache.dao;
+
+import cn.dev33.satoken.dao.auto.SaTokenDaoByStringFollowObject;
+import cn.dev33.satoken.session.SaSession;
+import cn.dev33.satoken.util.SaFoxUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CLASS_NAME: TimingWheelSaTokenDao.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 基于分层时间轮的进程内 SaTokenDao 实现, token 与会话保存在按桶加锁的 ConcurrentHashMap 中,
+ * 过期由分层时间轮按秒推进清理, 单个 token 的过期处理为 O(1), 不随在线 token 数量进行全量扫描; 读取时同时校验过期时间, 保证过期数据不会被读到
+ * @date: 2026-10-18
+ */
+@Slf4j
+public class TimingWheelSaTokenDao implements SaTokenDaoByStringFollowObject, BatchUpdateSaTokenDao, BatchDeleteSaTokenDao, BatchGetSessionSaTokenDao {
+
+    /**
+     * 缓存数据, key 为 Sa-Token 存储 key
+     */
+    private final Map<String, TimingWheelEntry> dataMap = new ConcurrentHashMap<>();
+    /**
+     * 分层时间轮
+     */
+    private final HierarchicalTimingWheel timingWheel = new HierarchicalTimingWheel(System.currentTimeMillis());
+    /**
+     * 时间轮推进线程
+     */
+    private ScheduledExecutorService tickExecutor;
+
+    /**
+     * 获取 Object, 如无返空
+     *
+     * @param key 键名称
+     * @return object
+     */
+    @Override
+    public Object getObject(String key) {
+        TimingWheelEntry entry = getLiveEntry(key);
+        return Objects.isNull(entry) ? null : entry.value;
+    }
+
+    /**
+     * 获取 Object (指定反序列化类型), 如无返空
+     *
+     * @param key       键名称
+     * @param classType 反序列化类型
+     * @return object
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getObject(String key, Class<T> classType) {
+        return (T) getObject(key);
+    }
+
+    /**
+     * 写入 Object, 并设定存活时间 (单位: 秒)
+     *
+     * @param key     键名称
+     * @param object  值
+     * @param timeout 存活时间 (值大于0时限时存储, 值=-1时永久存储, 值=0或小于-2时不存储)
+     */
+    @Override
+    public void setObject(String key, Object object, long timeout) {
+        if (timeout == 0 || timeout <= NOT_VALUE_EXPIRE) {
+            return;
+        }
+        TimingWheelEntry entry = new TimingWheelEntry(key, object, toExpireAt(timeout));
+        TimingWheelEntry previous = dataMap.put(key, entry);
+        if (Objects.nonNull(previous)) {
+            timingWheel.cancel(previous);
+        }
+        timingWheel.schedule(entry);
+    }
+
+    /**
+     * 更新 Object (过期时间不变)
+     *
+     * @param key    键名称
+     * @param object 值
+     */
+    @Override
+    public void updateObject(String key, Object object) {
+        TimingWheelEntry entry = getLiveEntry(key);
+        if (Objects.nonNull(entry)) {
+            entry.value = object;
+        }
+    }
+
+    /**
+     * 批量修改已存在的 key-value 键值对 (过期时间不变), 不存在的 key 忽略
+     *
+     * @param keyValues 需要修改的键值对, key 为键名称, value 为值
+     */
+    @Override
+    public void updateAll(Map<String, String> keyValues) {
+        keyValues.forEach(this::updateObject);
+    }
+
+    /**
+     * 删除 Object
+     *
+     * @param key 键名称
+     */
+    @Override
+    public void deleteObject(String key) {
+        TimingWheelEntry entry = dataMap.remove(key);
+        if (Objects.nonNull(entry)) {
+            timingWheel.cancel(entry);
+        }
+    }
+
+    /**
+     * 批量删除指定的 key, 不存在的 key 忽略
+     *
+     * @param keys 需要删除的键名称集合
+     */
+    @Override
+    public void deleteAll(Collection<String> keys) {
+        keys.forEach(this::deleteObject);
+    }
+
+    /**
+     * 批量获取指定的会话, 不存在的会话忽略
+     *
+     * @param sessionIds 会话 ID 集合
+     * @return 会话对象, key 为会话 ID, 不存在的会话不包含在内
+     */
+    @Override
+    public Map<String, SaSession> getSessionAll(Collection<String> sessionIds) {
+        Map<String, SaSession> sessionMap = new HashMap<>();
+        sessionIds.forEach(sessionId -> {
+            SaSession session = getSession(sessionId);
+            if (Objects.nonNull(session)) {
+                sessionMap.put(sessionId, session);
+            }
+        });
+        return sessionMap;
+    }
+
+    /**
+     * 获取 Object 的剩余存活时间 (单位: 秒)
+     *
+     * @param key 指定键
+     * @return 这个键的剩余存活时间
+     */
+    @Override
+    public long getObjectTimeout(String key) {
+        TimingWheelEntry entry = getLiveEntry(key);
+        if (Objects.isNull(entry)) {
+            return NOT_VALUE_EXPIRE;
+        }
+        long expireAt = entry.expireAt;
+        if (expireAt == Long.MAX_VALUE) {
+            return NEVER_EXPIRE;
+        }
+        return Math.max((expireAt - System.currentTimeMillis()) / 1000, 0);
+    }
+
+    /**
+     * 修改 Object 的剩余存活时间 (单位: 秒)
+     *
+     * @param key     指定键
+     * @param timeout 剩余存活时间
+     */
+    @Override
+    public void updateObjectTimeout(String key, long timeout) {
+        TimingWheelEntry entry = getLiveEntry(key);
+        if (Objects.isNull(entry)) {
+            return;
+        }
+        entry.expireAt = toExpireAt(timeout);
+        timingWheel.schedule(entry);
+    }
+
+    /**
+     * 搜索数据
+     *
+     * @param prefix   前缀
+     * @param keyword  关键字
+     * @param start    开始处索引
+     * @param size     获取数量 (-1代表从 start 处一直取到末尾)
+     * @param sortType 排序类型（true=正序，false=反序）
+     * @return 查询到的数据集合
+     */
+    @Override
+    public List<String> searchData(String prefix, String keyword, int start, int size, boolean sortType) {
+        return SaFoxUtil.searchList(dataMap.keySet(), prefix, keyword, start, size, sortType);
+    }
+
+    /**
+     * 初始化, 启动时间轮推进线程, 每秒推进一次
+     */
+    @Override
+    public synchronized void init() {
+        if (Objects.nonNull(tickExecutor)) {
+            return;
+        }
+        tickExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sa-token-timing-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        tickExecutor.scheduleAtFixedRate(this::tick, 1, 1, TimeUnit.SECONDS);
+        log.info("Timing wheel SaTokenDao is enabled.");
+    }
+
+    /**
+     * 销毁, 停止时间轮推进线程并清空数据
+     */
+    @Override
+    public synchronized void destroy() {
+        if (Objects.nonNull(tickExecutor)) {
+            tickExecutor.shutdownNow();
+            tickExecutor = null;
+        }
+        dataMap.clear();
+    }
+
+    /**
+     * 推进时间轮, 移除到期的数据
+     */
+    private void tick() {
+        try {
+            long now = System.currentTimeMillis();
+            timingWheel.advance(now, entry -> {
+                if (entry.isExpired(now)) {
+                    // 只移除仍是当前值的条目, 避免误删到期期间被重新写入的数据
+                    dataMap.remove(entry.key, entry);
+                } else {
+                    timingWheel.schedule(entry);
+                }
+            });
+        } catch (Exception e) {
+            // 推进线程不能因为异常退出, 否则过期数据将不再被清理
+            log.error("时间轮推进失败, 失败原因: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 获取未过期的缓存条目, 已过期但尚未被时间轮清理的条目在此处移除
+     *
+     * @param key 键名称
+     * @return 未过期的缓存条目, 不存在或已过期时为 null
+     */
+    private TimingWheelEntry getLiveEntry(String key) {
+        TimingWheelEntry entry = dataMap.get(key);
+        if (Objects.isNull(entry)) {
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            if (dataMap.remove(key, entry)) {
+                timingWheel.cancel(entry);
+            }
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * 将存活时间转换为过期时间点
+     *
+     * @param timeout 存活时间 (单位: 秒), -1 代表永不过期
+     * @return 过期时间点(毫秒时间戳), 永不过期时为 {@link Long#MAX_VALUE}
+     */
+    private long toExpireAt(long timeout) {
+        if (timeout == NEVER_EXPIRE) {
+            return Long.MAX_VALUE;
+        }
+        return System.currentTimeMillis() + timeout * 1000;
+    }
+}
@@ -0,0 +1,413 @@
+package com.ranyk.cache.dao;
+
+import cn.dev33.satoken.dao.SaTokenDao;
+import cn.dev33.satoken.session.SaSession;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CLASS_NAME: WriteBehindSaTokenDao.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: token 最后活跃时间延迟写入的 SaTokenDao 装饰类, 开启 token 最低活跃频率后 Sa-Token 每次请求都会修改 token 的最后活跃时间,
+ * 该类将这些修改先合并在内存中(同一 token 只保留最新值), 按固定间隔批量写入被装饰的持久层; 本节点读取时优先返回尚未写入的值,
+ * 其他节点读到的最后活跃时间最多落后一个写入间隔; 其余操作直接交给被装饰的持久层
+ * @date: 2026-10-18
+ */
+@Slf4j
+public class WriteBehindSaTokenDao implements BatchDeleteSaTokenDao, BatchGetSessionSaTokenDao {
+
+    /**
+     * token 最后活跃时间 key 中的标识片段, 形如 {tokenName}:{loginType}:last-active:{tokenValue}
+     */
+    private static final String LAST_ACTIVE_KEY_MARKER = ":last-active:";
+    /**
+     * 被装饰的持久层对象
+     */
+    private final SaTokenDao delegate;
+    /**
+     * 批量写入间隔(单位: 毫秒)
+     */
+    private final long flushInterval;
+    /**
+     * 尚未写入的 token 最后活跃时间, key 为 token 最后活跃时间 key
+     */
+    private final Map<String, String> pendingActiveTimes = new ConcurrentHashMap<>();
+    /**
+     * 批量写入线程
+     */
+    private ScheduledExecutorService flushExecutor;
+
+    /**
+     * 构造方法
+     *
+     * @param delegate      被装饰的持久层对象
+     * @param flushInterval 批量写入间隔(单位: 毫秒)
+     */
+    public WriteBehindSaTokenDao(SaTokenDao delegate, long flushInterval) {
+        this.delegate = delegate;
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * 获取 value, 如无返空; token 最后活跃时间优先返回尚未写入的值
+     *
+     * @param key 键名称
+     * @return value
+     */
+    @Override
+    public String get(String key) {
+        if (isLastActiveKey(key)) {
+            String pending = pendingActiveTimes.get(key);
+            if (Objects.nonNull(pending)) {
+                return pending;
+            }
+        }
+        return delegate.get(key);
+    }
+
+    /**
+     * 写入 value, 并设定存活时间 (单位: 秒)
+     *
+     * @param key     键名称
+     * @param value   值
+     * @param timeout 存活时间 (值大于0时限时存储, 值=-1时永久存储, 值=0或小于-2时不存储)
+     */
+    @Override
+    public void set(String key, String value, long timeout) {
+        // 直接写入时丢弃尚未写入的旧值, 避免之后被旧值覆盖
+        discardPending(key);
+        delegate.set(key, value, timeout);
+    }
+
+    /**
+     * 修改指定 key-value 键值对 (过期时间不变), token 最后活跃时间只记录在内存中, 由批量写入线程写入
+     *
+     * @param key   键名称
+     * @param value 值
+     */
+    @Override
+    public void update(String key, String value) {
+        if (isLastActiveKey(key)) {
+            pendingActiveTimes.put(key, value);
+            return;
+        }
+        delegate.update(key, value);
+    }
+
+    /**
+     * 删除 value
+     *
+     * @param key 键名称
+     */
+    @Override
+    public void delete(String key) {
+        discardPending(key);
+        delegate.delete(key);
+    }
+
+    /**
+     * 批量删除指定的 key, 同时丢弃其中尚未写入的 token 最后活跃时间; 持久层支持批量删除时一次删除, 否则逐个删除
+     *
+     * @param keys 需要删除的键名称集合
+     */
+    @Override
+    public void deleteAll(Collection<String> keys) {
+        keys.forEach(this::discardPending);
+        if (delegate instanceof BatchDeleteSaTokenDao batchDeleteSaTokenDao) {
+            batchDeleteSaTokenDao.deleteAll(keys);
+        } else {
+            keys.forEach(delegate::delete);
+        }
+    }
+
+    /**
+     * 获取 value 的剩余存活时间 (单位: 秒)
+     *
+     * @param key 指定键
+     * @return 这个键的剩余存活时间
+     */
+    @Override
+    public long getTimeout(String key) {
+        return delegate.getTimeout(key);
+    }
+
+    /**
+     * 修改 value 的剩余存活时间 (单位: 秒)
+     *
+     * @param key     指定键
+     * @param timeout 过期时间
+     */
+    @Override
+    public void updateTimeout(String key, long timeout) {
+        delegate.updateTimeout(key, timeout);
+    }
+
+    /**
+     * 获取 Object, 如无返空
+     *
+     * @param key 键名称
+     * @return object
+     */
+    @Override
+    public Object getObject(String key) {
+        return delegate.getObject(key);
+    }
+
+    /**
+     * 获取 Object (指定反序列化类型), 如无返空
+     *
+     * @param key       键名称
+     * @param classType 反序列化类型
+     * @return object
+     */
+    @Override
+    public <T> T getObject(String key, Class<T> classType) {
+        return delegate.getObject(key, classType);
+    }
+
+    /**
+     * 写入 Object, 并设定存活时间 (单位: 秒)
+     *
+     * @param key     键名称
+     * @param object  值
+     * @param timeout 存活时间
+     */
+    @Override
+    public void setObject(String key, Object object, long timeout) {
+        delegate.setObject(key, object, timeout);
+    }
+
+    /**
+     * 更新 Object (过期时间不变)
+     *
+     * @param key    键名称
+     * @param object 值
+     */
+    @Override
+    public void updateObject(String key, Object object) {
+        delegate.updateObject(key, object);
+    }
+
+    /**
+     * 删除 Object
+     *
+     * @param key 键名称
+     */
+    @Override
+    public void deleteObject(String key) {
+        delegate.deleteObject(key);
+    }
+
+    /**
+     * 获取 Object 的剩余存活时间 (单位: 秒)
+     *
+     * @param key 指定键
+     * @return 这个键的剩余存活时间
+     */
+    @Override
+    public long getObjectTimeout(String key) {
+        return delegate.getObjectTimeout(key);
+    }
+
+    /**
+     * 修改 Object 的剩余存活时间 (单位: 秒)
+     *
+     * @param key     指定键
+     * @param timeout 剩余存活时间
+     */
+    @Override
+    public void updateObjectTimeout(String key, long timeout) {
+        delegate.updateObjectTimeout(key, timeout);
+    }
+
+    /**
+     * 获取 SaSession, 如无返空
+     *
+     * @param sessionId sessionId
+     * @return SaSession
+     */
+    @Override
+    public SaSession getSession(String sessionId) {
+        return delegate.getSession(sessionId);
+    }
+
+    /**
+     * 批量获取指定的会话, 不存在的会话忽略; 持久层支持批量获取时一次获取, 否则逐个获取
+     *
+     * @param sessionIds 会话 ID 集合
+     * @return 会话对象, key 为会话 ID, 不存在的会话不包含在内
+     */
+    @Override
+    public Map<String, SaSession> getSessionAll(Collection<String> sessionIds) {
+        if (delegate instanceof BatchGetSessionSaTokenDao batchGetSessionSaTokenDao) {
+            return batchGetSessionSaTokenDao.getSessionAll(sessionIds);
+        }
+        Map<String, SaSession> sessionMap = new HashMap<>();
+        sessionIds.forEach(sessionId -> {
+            SaSession session = delegate.getSession(sessionId);
+            if (Objects.nonNull(session)) {
+                sessionMap.put(sessionId, session);
+            }
+        });
+        return sessionMap;
+    }
+
+    /**
+     * 写入 SaSession, 并设定存活时间 (单位: 秒)
+     *
+     * @param session 要保存的 SaSession 对象
+     * @param timeout 过期时间 (单位: 秒)
+     */
+    @Override
+    public void setSession(SaSession session, long timeout) {
+        delegate.setSession(session, timeout);
+    }
+
+    /**
+     * 更新 SaSession
+     *
+     * @param session 要更新的 SaSession 对象
+     */
+    @Override
+    public void updateSession(SaSession session) {
+        delegate.updateSession(session);
+    }
+
+    /**
+     * 删除 SaSession
+     *
+     * @param sessionId sessionId
+     */
+    @Override
+    public void deleteSession(String sessionId) {
+        delegate.deleteSession(sessionId);
+    }
+
+    /**
+     * 获取 SaSession 剩余存活时间 (单位: 秒)
+     *
+     * @param sessionId 指定 SaSession
+     * @return 这个 SaSession 的剩余存活时间
+     */
+    @Override
+    public long getSessionTimeout(String sessionId) {
+        return delegate.getSessionTimeout(sessionId);
+    }
+
+    /**
+     * 修改 SaSession 剩余存活时间 (单位: 秒)
+     *
+     * @param sessionId 指定 SaSession
+     * @param timeout   剩余存活时间
+     */
+    @Override
+    public void updateSessionTimeout(String sessionId, long timeout) {
+        delegate.updateSessionTimeout(sessionId, timeout);
+    }
+
+    /**
+     * 搜索数据
+     *
+     * @param prefix   前缀
+     * @param keyword  关键字
+     * @param start    开始处索引
+     * @param size     获取数量 (-1代表从 start 处一直取到末尾)
+     * @param sortType 排序类型（true=正序，false=反序）
+     * @return 查询到的数据集合
+     */
+    @Override
+    public List<String> searchData(String prefix, String keyword, int start, int size, boolean sortType) {
+        return delegate.searchData(prefix, keyword, start, size, sortType);
+    }
+
+    /**
+     * 初始化, 初始化被装饰的持久层并启动批量写入线程
+     */
+    @Override
+    public synchronized void init() {
+        delegate.init();
+        if (Objects.nonNull(flushExecutor)) {
+            return;
+        }
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sa-token-active-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushExecutor.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        log.info("Sa-Token last active time write-behind is enabled. flush interval: {}ms", flushInterval);
+    }
+
+    /**
+     * 销毁, 停止批量写入线程, 写入剩余数据后销毁被装饰的持久层
+     */
+    @Override
+    public synchronized void destroy() {
+        if (Objects.nonNull(flushExecutor)) {
+            flushExecutor.shutdownNow();
+            flushExecutor = null;
+        }
+        flush();
+        delegate.destroy();
+    }
+
+    /**
+     * 将尚未写入的 token 最后活跃时间批量写入被装饰的持久层
+     */
+    private void flush() {
+        try {
+            // 1. 逐个取出尚未写入的值, 取出期间新产生的修改留到下一次写入
+            Map<String, String> batch = new HashMap<>();
+            for (String key : pendingActiveTimes.keySet()) {
+                String value = pendingActiveTimes.remove(key);
+                if (Objects.nonNull(value)) {
+                    batch.put(key, value);
+                }
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            // 2. 持久层支持批量修改时一次写入, 否则逐个写入
+            if (delegate instanceof BatchUpdateSaTokenDao batchUpdateSaTokenDao) {
+                batchUpdateSaTokenDao.updateAll(batch);
+            } else {
+                batch.forEach(delegate::update);
+            }
+        } catch (Exception e) {
+            // 写入线程不能因为异常退出, 本批数据丢弃, 下一次请求会重新产生最后活跃时间
+            log.error("token 最后活跃时间批量写入失败, 失败原因: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 丢弃指定 key 尚未写入的值
+     *
+     * @param key 键名称
+     */
+    private void discardPending(String key) {
+        if (isLastActiveKey(key)) {
+            pendingActiveTimes.remove(key);
+        }
+    }
+
+    /**
+     * 判断是否为 token 最后活跃时间 key
+     *
+     * @param key 键名称
+     * @return true: 是; false: 否
+     */
+    private boolean isLastActiveKey(String key) {
+        return key.contains(LAST_ACTIVE_KEY_MARKER);
+    }
+}
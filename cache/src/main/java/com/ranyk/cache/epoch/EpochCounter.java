@@ -0,0 +1,30 @@
+package com.ranyk.cache.epoch;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * CLASS_NAME: EpochCounter.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 纪元计数器接口, 每个 key 对应一个只增不减的计数器, 递增为原子操作, 并发递增不会丢失; 不存在的计数器值为 0
+ * @date: 2026-10-18
+ */
+public interface EpochCounter {
+
+    /**
+     * 批量获取计数器的值
+     *
+     * @param keys 计数器 key 集合
+     * @return 与 key 顺序一致的计数器值 List 集合, 不存在的计数器值为 0
+     */
+    List<Long> get(List<String> keys);
+
+    /**
+     * 原子递增指定的计数器
+     *
+     * @param keys 计数器 key 集合
+     */
+    void increment(Collection<String> keys);
+}
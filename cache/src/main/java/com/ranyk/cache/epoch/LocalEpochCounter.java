@@ -0,0 +1,37 @@
+package com.ranyk.cache.epoch;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CLASS_NAME: LocalEpochCounter.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 进程内纪元计数器, 计数器只在本节点可见, 适用于单节点部署及测试
+ * @date: 2026-10-18
+ */
+public class LocalEpochCounter implements EpochCounter {
+
+    /**
+     * 计数器, key 为计数器 key
+     */
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public List<Long> get(List<String> keys) {
+        return keys.stream().map(key -> {
+            AtomicLong counter = counters.get(key);
+            return Objects.isNull(counter) ? 0L : counter.get();
+        }).toList();
+    }
+
+    @Override
+    public void increment(Collection<String> keys) {
+        keys.forEach(key -> counters.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet());
+    }
+}
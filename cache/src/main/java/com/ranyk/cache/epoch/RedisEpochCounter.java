@@ -0,0 +1,61 @@
+package com.ranyk.cache.epoch;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.util.StrUtil;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * CLASS_NAME: RedisEpochCounter.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 基于 Redis 的纪元计数器, 所有节点共享 Redis 中的计数器; 递增使用 INCR 原子完成, 多个计数器通过 Redis 管道一次发送, 读取使用一次 MGET
+ * @date: 2026-10-18
+ */
+public class RedisEpochCounter implements EpochCounter {
+
+    /**
+     * 计数器 key 前缀
+     */
+    private static final String KEY_PREFIX = "epoch:";
+    /**
+     * Redis 字符串模板对象
+     */
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 构造方法
+     *
+     * @param stringRedisTemplate Redis 字符串模板对象
+     */
+    public RedisEpochCounter(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    @Override
+    public List<Long> get(List<String> keys) {
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(keys.stream().map(key -> KEY_PREFIX + key).toList());
+        if (Objects.isNull(values)) {
+            return keys.stream().map(key -> 0L).toList();
+        }
+        return values.stream().map(value -> StrUtil.isBlank(value) ? 0L : Long.parseLong(value)).toList();
+    }
+
+    @Override
+    public void increment(Collection<String> keys) {
+        if (CollUtil.isEmpty(keys)) {
+            return;
+        }
+        RedisSerializer<String> keySerializer = stringRedisTemplate.getStringSerializer();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            keys.forEach(key -> connection.stringCommands().incr(Objects.requireNonNull(keySerializer.serialize(KEY_PREFIX + key))));
+            return null;
+        });
+    }
+}
@@ -0,0 +1,109 @@
+package com.ranyk.cache.limiter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.jspecify.annotations.NonNull;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * CLASS_NAME: LocalTokenBucketRateLimiter.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 进程内令牌桶限流器, 令牌桶保存在 Caffeine 缓存中并在一段时间未访问后自动移除;
+ * 令牌桶的修改使用分段锁, 按 key 的哈希值映射到固定数量的锁上, 不同 key 之间基本不会互相阻塞, 也不需要为每个 key 创建锁
+ * @date: 2026-10-18
+ */
+public class LocalTokenBucketRateLimiter implements RateLimiter {
+
+    /**
+     * 分段锁数量, 必须为 2 的幂
+     */
+    private static final int STRIPES = 64;
+    /**
+     * 分段锁
+     */
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+    /**
+     * 令牌桶缓存, key 为限流 key
+     */
+    private final Cache<@NonNull String, TokenBucket> bucketCache;
+
+    /**
+     * 构造方法
+     *
+     * @param maxSize        最多保存的令牌桶数量
+     * @param idleExpiration 令牌桶未访问多久后移除, 应不小于令牌桶补满所需时间
+     */
+    public LocalTokenBucketRateLimiter(long maxSize, Duration idleExpiration) {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.bucketCache = Caffeine.newBuilder()
+                // 缓存的最大令牌桶数
+                .maximumSize(maxSize)
+                // 一段时间未访问的令牌桶已经补满, 移除后重新创建的效果相同
+                .expireAfterAccess(idleExpiration)
+                .build();
+    }
+
+    @Override
+    public boolean tryAcquire(String key, long capacity, double refillPerSecond) {
+        ReentrantLock lock = locks[spread(key.hashCode()) & (STRIPES - 1)];
+        lock.lock();
+        try {
+            // 1. 不存在令牌桶时新建一个满的令牌桶
+            long now = System.nanoTime();
+            TokenBucket bucket = bucketCache.get(key, k -> new TokenBucket(capacity, now));
+            // 2. 按距上次补充的时间补充令牌, 不超过容量
+            double elapsedSeconds = (now - bucket.lastRefillNanos) / 1_000_000_000D;
+            bucket.tokens = Math.min(capacity, bucket.tokens + elapsedSeconds * refillPerSecond);
+            bucket.lastRefillNanos = now;
+            // 3. 令牌足够时取走一个
+            if (bucket.tokens >= 1D) {
+                bucket.tokens -= 1D;
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 打散哈希值高位, 使相近的哈希值分布到不同的分段锁上
+     *
+     * @param hash 哈希值
+     * @return 打散后的哈希值
+     */
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * 令牌桶, 只在持有对应分段锁时读写
+     */
+    private static final class TokenBucket {
+        /**
+         * 当前令牌数
+         */
+        private double tokens;
+        /**
+         * 上次补充令牌的时间(纳秒)
+         */
+        private long lastRefillNanos;
+
+        /**
+         * 构造方法
+         *
+         * @param tokens          初始令牌数
+         * @param lastRefillNanos 初始补充时间(纳秒)
+         */
+        private TokenBucket(double tokens, long lastRefillNanos) {
+            this.tokens = tokens;
+            this.lastRefillNanos = lastRefillNanos;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.ranyk.cache.limiter;
+
+/**
+ * CLASS_NAME: RateLimiter.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 令牌桶限流器接口, 每个 key 对应一个令牌桶, 桶容量决定允许的突发次数, 补充速率决定长期允许的频率
+ * @date: 2026-10-18
+ */
+public interface RateLimiter {
+
+    /**
+     * 尝试从指定 key 的令牌桶中获取一个令牌
+     *
+     * @param key             限流 key
+     * @param capacity        令牌桶容量
+     * @param refillPerSecond 每秒补充的令牌数
+     * @return true: 获取成功, 允许访问; false: 令牌不足, 拒绝访问
+     */
+    boolean tryAcquire(String key, long capacity, double refillPerSecond);
+}
@@ -0,0 +1,69 @@
+package com.ranyk.cache.limiter;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * CLASS_NAME: RedisTokenBucketRateLimiter.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 基于 Redis 的令牌桶限流器, 令牌桶保存在 Redis 哈希中, 补充和扣减令牌在一个 Lua 脚本内原子完成,
+ * 所有节点共享同一个令牌桶; 时间取自 Redis 服务器, 不受各节点时钟差异影响
+ * @date: 2026-10-18
+ */
+public class RedisTokenBucketRateLimiter implements RateLimiter {
+
+    /**
+     * 令牌桶 Lua 脚本, KEYS[1] 为令牌桶 key, ARGV[1] 为容量, ARGV[2] 为每秒补充令牌数; 返回 1 表示获取成功, 0 表示令牌不足
+     */
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1])
+            local ts = tonumber(bucket[2])
+            if tokens == nil then
+                tokens = capacity
+                ts = now
+            end
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) / 1000 * rate)
+            local allowed = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+                allowed = 1
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate * 1000) + 1000)
+            return allowed
+            """, Long.class);
+    /**
+     * 令牌桶 key 前缀
+     */
+    private static final String KEY_PREFIX = "rate-limiter:";
+    /**
+     * Redis 字符串模板对象
+     */
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 构造方法
+     *
+     * @param stringRedisTemplate Redis 字符串模板对象
+     */
+    public RedisTokenBucketRateLimiter(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    @Override
+    public boolean tryAcquire(String key, long capacity, double refillPerSecond) {
+        Long allowed = stringRedisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(KEY_PREFIX + key), String.valueOf(capacity), String.valueOf(refillPerSecond));
+        return Objects.equals(allowed, 1L);
+    }
+}
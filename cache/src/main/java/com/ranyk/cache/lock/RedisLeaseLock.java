@@ -0,0 +1,67 @@
+package com.ranyk.cache.lock;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * CLASS_NAME: RedisLeaseLock.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 基于 Redis 的租约锁, 通过 SET NX PX 获取锁, 锁在租约时间到期后自动释放, 持有者崩溃也不会永久占用;
+ * 释放时通过 Lua 脚本比较持有者标识后删除, 不会误删租约到期后被其他节点重新获取的锁
+ * @date: 2026-10-18
+ */
+public class RedisLeaseLock {
+
+    /**
+     * 释放锁 Lua 脚本, KEYS[1] 为锁 key, ARGV[1] 为持有者标识; 返回 1 表示已释放, 0 表示锁已不属于该持有者
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+    /**
+     * Redis 字符串模板对象
+     */
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 构造方法
+     *
+     * @param stringRedisTemplate Redis 字符串模板对象
+     */
+    public RedisLeaseLock(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    /**
+     * 尝试获取锁, 不等待
+     *
+     * @param key       锁 key
+     * @param owner     持有者标识
+     * @param leaseTime 租约时间
+     * @return true: 获取成功; false: 锁已被其他持有者占用
+     */
+    public boolean tryAcquire(String key, String owner, Duration leaseTime) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(key, owner, leaseTime));
+    }
+
+    /**
+     * 释放锁, 锁已不属于该持有者时不做任何操作
+     *
+     * @param key   锁 key
+     * @param owner 持有者标识
+     * @return true: 已释放; false: 锁已不属于该持有者
+     */
+    public boolean release(String key, String owner) {
+        return Objects.equals(stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key), owner), 1L);
+    }
+}
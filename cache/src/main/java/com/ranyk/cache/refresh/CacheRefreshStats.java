@@ -0,0 +1,120 @@
+package com.ranyk.cache.refresh;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CLASS_NAME: CacheRefreshStats.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 缓存提前刷新统计对象, 记录后台刷新的成功次数、失败次数、因线程池已满被拒绝的次数以及刷新耗时
+ * @date: 2026-10-18
+ */
+public class CacheRefreshStats {
+
+    /**
+     * 刷新成功次数
+     */
+    private final LongAdder successCount = new LongAdder();
+    /**
+     * 刷新失败次数
+     */
+    private final LongAdder failureCount = new LongAdder();
+    /**
+     * 因刷新线程池已满被拒绝的次数
+     */
+    private final LongAdder rejectedCount = new LongAdder();
+    /**
+     * 刷新累计耗时(单位: 纳秒), 包含成功和失败的刷新
+     */
+    private final LongAdder totalNanos = new LongAdder();
+    /**
+     * 单次刷新最大耗时(单位: 纳秒)
+     */
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * 记录一次成功的刷新
+     *
+     * @param nanos 刷新耗时(单位: 纳秒)
+     */
+    void recordSuccess(long nanos) {
+        successCount.increment();
+        recordLatency(nanos);
+    }
+
+    /**
+     * 记录一次失败的刷新
+     *
+     * @param nanos 刷新耗时(单位: 纳秒)
+     */
+    void recordFailure(long nanos) {
+        failureCount.increment();
+        recordLatency(nanos);
+    }
+
+    /**
+     * 记录一次被拒绝的刷新
+     */
+    void recordRejected() {
+        rejectedCount.increment();
+    }
+
+    /**
+     * 获取刷新成功次数
+     *
+     * @return 刷新成功次数
+     */
+    public long getSuccessCount() {
+        return successCount.sum();
+    }
+
+    /**
+     * 获取刷新失败次数
+     *
+     * @return 刷新失败次数
+     */
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    /**
+     * 获取因刷新线程池已满被拒绝的次数
+     *
+     * @return 被拒绝的次数
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * 获取刷新平均耗时(单位: 毫秒)
+     *
+     * @return 刷新平均耗时, 尚未刷新时为 0
+     */
+    public double getAverageLatencyMillis() {
+        long count = successCount.sum() + failureCount.sum();
+        return count == 0 ? 0D : (double) totalNanos.sum() / count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * 获取单次刷新最大耗时(单位: 毫秒)
+     *
+     * @return 单次刷新最大耗时
+     */
+    public long getMaxLatencyMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+    }
+
+    /**
+     * 记录刷新耗时
+     *
+     * @param nanos 刷新耗时(单位: 纳秒)
+     */
+    private void recordLatency(long nanos) {
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+}
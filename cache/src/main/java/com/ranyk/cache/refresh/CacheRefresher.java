@@ -0,0 +1,100 @@
+package com.ranyk.cache.refresh;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CLASS_NAME: CacheRefresher.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 缓存提前刷新执行器, 在有界线程池中执行后台刷新任务, 同一缓存数据同时只执行一个刷新任务;
+ * 线程池和等待队列已满时直接放弃本次刷新, 缓存数据到期后由读取方同步加载; 刷新的成功、失败、拒绝次数以及耗时记录在统计对象中
+ * @date: 2026-10-18
+ */
+@Slf4j
+public class CacheRefresher {
+
+    /**
+     * 刷新线程池
+     */
+    private final ThreadPoolExecutor executor;
+    /**
+     * 正在刷新的缓存数据标识
+     */
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    /**
+     * 刷新统计对象
+     */
+    @Getter
+    private final CacheRefreshStats stats = new CacheRefreshStats();
+
+    /**
+     * 构造方法
+     *
+     * @param threads   刷新线程数
+     * @param queueSize 刷新任务等待队列长度
+     */
+    public CacheRefresher(int threads, int queueSize) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize), runnable -> {
+            Thread thread = new Thread(runnable, "cache-refresh-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 提交刷新任务, 同一缓存数据已在刷新或线程池已满时不提交
+     *
+     * @param refreshKey 缓存数据标识
+     * @param task       刷新任务
+     */
+    public void refresh(String refreshKey, Runnable task) {
+        if (!refreshing.add(refreshKey)) {
+            return;
+        }
+        try {
+            executor.execute(() -> run(refreshKey, task));
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(refreshKey);
+            stats.recordRejected();
+            log.debug("缓存刷新线程池已满, 放弃本次刷新, 缓存数据标识为: {}", refreshKey);
+        }
+    }
+
+    /**
+     * 停止刷新线程池, 正在执行的刷新任务被中断
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 执行刷新任务并记录统计信息
+     *
+     * @param refreshKey 缓存数据标识
+     * @param task       刷新任务
+     */
+    private void run(String refreshKey, Runnable task) {
+        long start = System.nanoTime();
+        try {
+            task.run();
+            stats.recordSuccess(System.nanoTime() - start);
+        } catch (Exception e) {
+            // 刷新失败时保留旧值, 缓存数据到期后由读取方同步加载
+            stats.recordFailure(System.nanoTime() - start);
+            log.warn("缓存提前刷新失败, 缓存数据标识为: {} , 失败原因: {}", refreshKey, e.getMessage(), e);
+        } finally {
+            refreshing.remove(refreshKey);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.ranyk.cache.region;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.Getter;
+import org.jspecify.annotations.NonNull;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CLASS_NAME: CacheRegion.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 缓存区域对象, 持有该区域的本地缓存、Redis key 前缀以及 Redis 有效期, 不同区域的缓存数据互不挤占;
+ * 本地缓存每次收到缓存失效消息都会递增失效版本, 从 Redis 或加载函数得到的数据回填本地缓存前后比较失效版本, 期间发生过失效时不回填, 避免旧数据在失效之后被写回
+ * @date: 2026-10-18
+ */
+@Getter
+public class CacheRegion {
+
+    /**
+     * 缓存区域名称
+     */
+    private final String name;
+    /**
+     * 本地缓存对象, 缓存模式不使用本地缓存时为 null
+     */
+    private final Cache<@NonNull String, Object> localCache;
+    /**
+     * Redis key 前缀
+     */
+    private final String redisKeyPrefix;
+    /**
+     * Redis 有效期, 为 null 时不过期
+     */
+    private final Duration redisTtl;
+    /**
+     * 提前刷新比例, 为 null 时不提前刷新
+     */
+    private final Double refreshAheadRatio;
+    /**
+     * 本地缓存失效版本, 每次移除本地缓存数据时递增
+     */
+    private final AtomicLong invalidationVersion = new AtomicLong();
+
+    /**
+     * 构造方法
+     *
+     * @param name              缓存区域名称
+     * @param localCache        本地缓存对象, 缓存模式不使用本地缓存时为 null
+     * @param redisKeyPrefix    Redis key 前缀
+     * @param redisTtl          Redis 有效期, 为 null 时不过期
+     * @param refreshAheadRatio 提前刷新比例, 为 null 时不提前刷新
+     */
+    public CacheRegion(String name, Cache<@NonNull String, Object> localCache, String redisKeyPrefix, Duration redisTtl, Double refreshAheadRatio) {
+        this.name = name;
+        this.localCache = localCache;
+        this.redisKeyPrefix = redisKeyPrefix;
+        this.redisTtl = redisTtl;
+        this.refreshAheadRatio = refreshAheadRatio;
+    }
+
+    /**
+     * 获取缓存 key 在 Redis 中的完整 key
+     *
+     * @param key 缓存的键
+     * @return Redis 中的完整 key
+     */
+    public String redisKey(String key) {
+        return redisKeyPrefix + key;
+    }
+
+    /**
+     * 判断 Redis 中的数据是否需要设置有效期
+     *
+     * @return true: 需要; false: 不需要
+     */
+    public boolean hasRedisTtl() {
+        return Objects.nonNull(redisTtl);
+    }
+
+    /**
+     * 判断是否开启提前刷新
+     *
+     * @return true: 开启; false: 未开启
+     */
+    public boolean isRefreshAhead() {
+        return Objects.nonNull(refreshAheadRatio);
+    }
+
+    /**
+     * 获取本地缓存当前的失效版本, 在读取 Redis 或执行加载函数之前获取, 回填本地缓存时传入
+     *
+     * @return 本地缓存失效版本
+     */
+    public long currentInvalidationVersion() {
+        return invalidationVersion.get();
+    }
+
+    /**
+     * 移除本地缓存数据, 先递增失效版本, 之后进行中的回填都会被放弃
+     *
+     * @param keys 需要移除的缓存 key 集合
+     */
+    public void invalidateLocal(Collection<String> keys) {
+        invalidationVersion.incrementAndGet();
+        localCache.invalidateAll(keys);
+    }
+
+    /**
+     * 将数据回填本地缓存, 指定失效版本之后发生过失效时不回填; 写入后再次比较, 写入与失效并发时移除刚写入的数据
+     *
+     * @param key     缓存的键
+     * @param value   缓存的值
+     * @param version 读取数据前获取的失效版本
+     */
+    public void putLocalIfNotInvalidated(String key, Object value, long version) {
+        putAllLocalIfNotInvalidated(Map.of(key, value), version);
+    }
+
+    /**
+     * 仅当本地缓存中的数据仍为指定旧值且指定失效版本之后未发生过失效时替换为新值, 数据已被移除或覆盖时不写入
+     *
+     * @param key      缓存的键
+     * @param oldValue 读取时的旧值
+     * @param newValue 新值
+     * @param version  读取数据前获取的失效版本
+     * @return true: 已替换; false: 数据已变化, 未替换
+     */
+    public boolean replaceLocalIfNotInvalidated(String key, Object oldValue, Object newValue, long version) {
+        return invalidationVersion.get() == version && localCache.asMap().replace(key, oldValue, newValue);
+    }
+
+    /**
+     * 将数据批量回填本地缓存, 指定失效版本之后发生过失效时不回填; 写入后再次比较, 写入与失效并发时移除刚写入的数据
+     *
+     * @param keyValues 需要回填的数据, key 为缓存的键, value 为缓存的值
+     * @param version   读取数据前获取的失效版本
+     */
+    public void putAllLocalIfNotInvalidated(Map<String, ?> keyValues, long version) {
+        if (invalidationVersion.get() != version) {
+            return;
+        }
+        localCache.putAll(keyValues);
+        if (invalidationVersion.get() != version) {
+            localCache.invalidateAll(keyValues.keySet());
+        }
+    }
+}
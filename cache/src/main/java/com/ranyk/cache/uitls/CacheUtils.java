@@ -1,92 +1,649 @@
 package com.ranyk.cache.uitls;
 
-import cn.hutool.extra.spring.SpringUtil;
-import com.github.benmanes.caffeine.cache.Cache;
+import cn.hutool.core.util.IdUtil;
+import com.ranyk.cache.bus.InvalidationBus;
+import com.ranyk.cache.lock.RedisLeaseLock;
+import com.ranyk.cache.refresh.CacheRefreshStats;
+import com.ranyk.cache.refresh.CacheRefresher;
+import com.ranyk.cache.region.CacheRegion;
+import com.ranyk.common.constant.CacheModeEnum;
 import com.ranyk.model.exception.service.ServiceException;
-import org.jspecify.annotations.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
-import java.util.Objects;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * CLASS_NAME: CacheUtils.java
  *
  * @author ranyk
  * @version V1.0
- * @description: 缓存工具类
+ * @description: 缓存工具类, 按缓存模式使用 Caffeine 本地缓存、Redis 缓存或两级缓存;
+ * 两级缓存模式下读取时先查本地缓存, 未命中时查 Redis 并回填本地缓存, 写入和删除时同时操作两级缓存, 并通过缓存失效消息总线(Redis 发布/订阅)移除其他节点的本地缓存;
+ * 每次操作都需要指定缓存区域, 不同区域拥有独立的本地缓存容量、过期策略以及 Redis key 命名空间和有效期;
+ * 带加载函数的获取方法保证同一 key 在并发未命中时只加载一次: 只使用本地缓存时通过 Caffeine 原子计算合并, 使用 Redis 时本节点内通过进行中的加载任务合并、节点之间通过 Redis 租约锁合并,
+ * 访问 Redis 和等待其他节点的过程不在 Caffeine 原子计算内执行, 不会阻塞同一哈希桶内其他 key 的读写;
+ * 缓存区域开启提前刷新时, 存活时间超过有效期指定比例的数据在读取时交给有界线程池后台重新加载, 重新加载完成前继续返回旧值; 使用 Redis 时按 Redis 剩余有效期判断,
+ * 并通过 Redis 租约锁保证只有一个节点重新加载, 重新加载的结果仅在数据未被删除或覆盖时写入 Redis 和本节点本地缓存, 不广播缓存失效消息;
+ * 批量操作在本地缓存上使用 Caffeine 批量方法, 在 Redis 上使用 MGET、管道 SET 和多 key DEL, 一次网络往返完成
  * @date: 2025-09-26
  */
+@Slf4j
 public class CacheUtils {
 
     /**
-     * Caffeine 缓存对象
+     * 缓存工具类本地缓存在缓存失效消息总线中的缓存区域前缀, 完整缓存区域为前缀加缓存区域名称
      */
-    private final Cache<@NonNull String, Object> caffeineCache = SpringUtil.getBean("caffeineCache");
+    public static final String INVALIDATION_REGION_PREFIX = "cache-utils:";
+    /**
+     * 跨节点加载租约锁 key 后缀, 完整 key 为缓存数据的 Redis key 加该后缀
+     */
+    private static final String LOAD_LOCK_SUFFIX = ":load-lock";
+    /**
+     * 比较后写入 Lua 脚本, KEYS[1] 为缓存数据的 Redis key, ARGV[1] 为期望的原始值, ARGV[2] 为新值, ARGV[3] 为有效期毫秒数(0 表示不过期); 返回 1 表示已写入, 0 表示值已变化
+     */
+    private static final byte[] COMPARE_AND_SET_SCRIPT = """
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            if ARGV[3] == '0' then
+                redis.call('SET', KEYS[1], ARGV[2])
+            else
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            end
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+    /**
+     * 缓存区域对象, key 为缓存区域名称
+     */
+    private final Map<String, CacheRegion> regions;
     /**
      * Redis 缓存对象
      */
-    private final RedisTemplate<String, Object> redisTemplate = SpringUtil.getBean("redisTemplate");
+    private final RedisTemplate<String, Object> redisTemplate;
     /**
-     * 缓存类型: 1: 使用本地缓存; 2: 使用 Redis 缓存;
+     * 缓存失效消息总线对象
      */
-    private static Integer CACHE_TYPE;
-
-    // 静态代码块初始化缓存类型
-    {
-        if (Objects.isNull(caffeineCache) && Objects.isNull(redisTemplate)) {
-            throw new ServiceException("缓存未启用或未创建对应的缓存对象 caffeineCache 和 redisTemplate !");
-        }
+    private final InvalidationBus invalidationBus;
+    /**
+     * 缓存模式
+     */
+    private final CacheModeEnum mode;
+    /**
+     * 跨节点加载使用的 Redis 租约锁对象, 未启用 Redis 时为 null
+     */
+    private final RedisLeaseLock redisLeaseLock;
+    /**
+     * 跨节点加载的租约时间, 也是其他节点等待加载结果的最长时间
+     */
+    private final Duration loadLeaseTime;
+    /**
+     * 其他节点等待加载结果的轮询间隔
+     */
+    private final Duration loadWaitInterval;
+    /**
+     * 缓存提前刷新执行器对象
+     */
+    private final CacheRefresher cacheRefresher;
+    /**
+     * 使用 Redis 缓存时本节点进行中的加载任务, key 为缓存数据的 Redis key
+     */
+    private final Map<String, CompletableFuture<Object>> inflightLoads = new ConcurrentHashMap<>();
 
-        if (Objects.nonNull(caffeineCache)) {
-            CACHE_TYPE = 1;
+    /**
+     * 构造方法
+     *
+     * @param mode             缓存模式
+     * @param regions          缓存区域对象, key 为缓存区域名称
+     * @param redisTemplate    Redis 缓存对象, 未启用时为 null
+     * @param redisLeaseLock   跨节点加载使用的 Redis 租约锁对象, 未启用 Redis 时为 null
+     * @param invalidationBus  缓存失效消息总线对象
+     * @param cacheRefresher   缓存提前刷新执行器对象
+     * @param loadLeaseTime    跨节点加载的租约时间
+     * @param loadWaitInterval 其他节点等待加载结果的轮询间隔
+     */
+    public CacheUtils(CacheModeEnum mode, Map<String, CacheRegion> regions, RedisTemplate<String, Object> redisTemplate, RedisLeaseLock redisLeaseLock,
+                      InvalidationBus invalidationBus, CacheRefresher cacheRefresher, Duration loadLeaseTime, Duration loadWaitInterval) {
+        // 1. 缓存模式需要的缓存对象必须已创建
+        if (mode.useRedis() && Objects.isNull(redisTemplate)) {
+            throw new ServiceException("缓存模式为 " + mode + " 但未创建对应的缓存对象 redisTemplate !");
         }
-        if (Objects.nonNull(redisTemplate)) {
-            CACHE_TYPE = 2;
+        this.mode = mode;
+        this.regions = Map.copyOf(regions);
+        this.redisTemplate = redisTemplate;
+        this.redisLeaseLock = redisLeaseLock;
+        this.invalidationBus = invalidationBus;
+        this.cacheRefresher = cacheRefresher;
+        this.loadLeaseTime = loadLeaseTime;
+        this.loadWaitInterval = loadWaitInterval;
+        // 2. 两级缓存模式下订阅每个缓存区域的本地缓存失效消息, 包含本节点和其他节点发布的消息
+        if (mode == CacheModeEnum.TIERED) {
+            this.regions.values().forEach(region -> invalidationBus.subscribe(INVALIDATION_REGION_PREFIX + region.getName(), region::invalidateLocal));
         }
+        log.info("CacheUtils is enabled. cache mode: {}, cache regions: {}", mode, this.regions.keySet());
     }
 
     /**
      * 缓存数据
      *
-     * @param key   缓存的键
-     * @param value 缓存的值
+     * @param region 缓存区域名称
+     * @param key    缓存的键
+     * @param value  缓存的值
      * @return 返回是否操作成功的结果 {@link Boolean}
      */
-    public Boolean cache(String key, Object value) {
-        if (CACHE_TYPE == 2) {
-            redisTemplate.opsForValue().set(key, value);
-            return Boolean.TRUE;
+    public Boolean cache(String region, String key, Object value) {
+        CacheRegion cacheRegion = getRegion(region);
+        switch (mode) {
+            case LOCAL -> cacheRegion.getLocalCache().put(key, value);
+            case REDIS -> setRedis(cacheRegion, key, value);
+            case TIERED -> {
+                // 先写 Redis, 再移除所有节点的旧本地缓存, 最后写入本节点本地缓存
+                setRedis(cacheRegion, key, value);
+                invalidationBus.publish(INVALIDATION_REGION_PREFIX + region, Set.of(key));
+                cacheRegion.getLocalCache().put(key, value);
+            }
         }
-        caffeineCache.put(key, value);
         return Boolean.TRUE;
     }
 
     /**
      * 获取缓存数据
      *
-     * @param key 缓存的键
+     * @param region 缓存区域名称
+     * @param key    缓存的键
      * @return 返回缓存的值 {@link Object}
      */
-    public Object getCache(String key) {
-        if (CACHE_TYPE == 2) {
-            return redisTemplate.opsForValue().get(key);
+    public Object getCache(String region, String key) {
+        CacheRegion cacheRegion = getRegion(region);
+        return switch (mode) {
+            case LOCAL -> cacheRegion.getLocalCache().getIfPresent(key);
+            case REDIS -> redisTemplate.opsForValue().get(cacheRegion.redisKey(key));
+            // 本地缓存未命中时在 Caffeine 原子计算之外从 Redis 获取并回填本地缓存, Redis 中不存在或期间发生过失效时不回填
+            case TIERED -> {
+                Object cached = cacheRegion.getLocalCache().getIfPresent(key);
+                if (Objects.nonNull(cached)) {
+                    yield cached;
+                }
+                long version = cacheRegion.currentInvalidationVersion();
+                Object value = redisTemplate.opsForValue().get(cacheRegion.redisKey(key));
+                if (Objects.nonNull(value)) {
+                    cacheRegion.putLocalIfNotInvalidated(key, value, version);
+                }
+                yield value;
+            }
+        };
+    }
+
+    /**
+     * 获取缓存数据, 未命中时通过加载函数加载并写入缓存; 并发未命中时同一 key 只加载一次, 加载结果为 null 时不缓存
+     *
+     * @param region 缓存区域名称
+     * @param key    缓存的键
+     * @param loader 缓存未命中时的加载函数, 入参为缓存的键
+     * @param <T>    缓存值类型
+     * @return 返回缓存的值, 不存在时为 null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String region, String key, Function<String, T> loader) {
+        CacheRegion cacheRegion = getRegion(region);
+        Object value = switch (mode) {
+            // 本地缓存的原子计算保证同一 key 只执行一次加载函数
+            case LOCAL -> cacheRegion.getLocalCache().get(key, loader);
+            case REDIS -> loadOnce(cacheRegion, key, loader);
+            // 本地缓存未命中时, 在 Caffeine 原子计算之外通过进行中的加载任务和 Redis 租约锁合并并发未命中, 加载期间未发生失效时加载结果再写入本地缓存
+            case TIERED -> {
+                Object cached = cacheRegion.getLocalCache().getIfPresent(key);
+                if (Objects.nonNull(cached)) {
+                    yield cached;
+                }
+                long version = cacheRegion.currentInvalidationVersion();
+                Object loaded = loadOnce(cacheRegion, key, loader);
+                if (Objects.nonNull(loaded)) {
+                    cacheRegion.putLocalIfNotInvalidated(key, loaded, version);
+                }
+                yield loaded;
+            }
+        };
+        // 命中的数据临近过期时在后台提前刷新
+        if (Objects.nonNull(value) && cacheRegion.isRefreshAhead() && shouldRefreshAhead(cacheRegion, key)) {
+            cacheRefresher.refresh(region + ":" + key, () -> refreshAhead(cacheRegion, key, value, loader));
         }
-        return caffeineCache.getIfPresent(key);
+        return (T) value;
+    }
+
+    /**
+     * 获取缓存提前刷新统计信息
+     *
+     * @return 缓存提前刷新统计对象 {@link CacheRefreshStats}
+     */
+    public CacheRefreshStats getRefreshStats() {
+        return cacheRefresher.getStats();
     }
 
     /**
      * 删除缓存数据
      *
-     * @param key 缓存的键
+     * @param region 缓存区域名称
+     * @param key    缓存的键
      * @return 删除结果 {@link Boolean}
      */
-    public Boolean deleteCache(String key) {
-        if (CACHE_TYPE == 2) {
-            redisTemplate.delete(key);
+    public Boolean deleteCache(String region, String key) {
+        CacheRegion cacheRegion = getRegion(region);
+        switch (mode) {
+            case LOCAL -> cacheRegion.getLocalCache().invalidate(key);
+            case REDIS -> redisTemplate.delete(cacheRegion.redisKey(key));
+            case TIERED -> {
+                // 先删除 Redis, 再移除所有节点的本地缓存, 避免其他节点从 Redis 回填旧值
+                redisTemplate.delete(cacheRegion.redisKey(key));
+                invalidationBus.publish(INVALIDATION_REGION_PREFIX + region, Set.of(key));
+            }
+        }
+        return Boolean.TRUE;
+    }
+
+    /**
+     * 判断缓存数据是否需要提前刷新; 只使用本地缓存时按本地缓存写入后过期时间判断, 只使用 Redis 缓存时按 Redis 剩余有效期判断;
+     * 两级缓存模式下只按本地缓存的存活时间粗筛, 不在请求线程访问 Redis, 是否临近 Redis 过期在后台刷新任务中判断
+     *
+     * @param cacheRegion 缓存区域对象
+     * @param key         缓存的键
+     * @return true: 需要提前刷新; false: 不需要
+     */
+    private boolean shouldRefreshAhead(CacheRegion cacheRegion, String key) {
+        return switch (mode) {
+            case LOCAL -> isLocalNearExpiry(cacheRegion, key).orElse(false);
+            case REDIS -> isRedisNearExpiry(cacheRegion, key);
+            // 本地缓存未配置写入后过期时间时无法粗筛, 交给后台刷新任务判断
+            case TIERED -> cacheRegion.hasRedisTtl() && isLocalNearExpiry(cacheRegion, key).orElse(true);
+        };
+    }
+
+    /**
+     * 判断本地缓存数据的存活时间是否已超过本地缓存写入后过期时间的提前刷新比例
+     *
+     * @param cacheRegion 缓存区域对象
+     * @param key         缓存的键
+     * @return 是否需要提前刷新, 本地缓存未配置写入后过期时间或数据不存在时为空
+     */
+    private Optional<Boolean> isLocalNearExpiry(CacheRegion cacheRegion, String key) {
+        double ratio = cacheRegion.getRefreshAheadRatio();
+        return cacheRegion.getLocalCache().policy().expireAfterWrite()
+                .flatMap(expiration -> expiration.ageOf(key).map(age -> age.toNanos() >= expiration.getExpiresAfter().toNanos() * ratio));
+    }
+
+    /**
+     * 判断 Redis 中的缓存数据剩余有效期是否已低于有效期的 (1 - 提前刷新比例), 未配置 Redis 有效期时不提前刷新
+     *
+     * @param cacheRegion 缓存区域对象
+     * @param key         缓存的键
+     * @return true: 需要提前刷新; false: 不需要
+     */
+    private boolean isRedisNearExpiry(CacheRegion cacheRegion, String key) {
+        if (!cacheRegion.hasRedisTtl()) {
+            return false;
+        }
+        Long remaining = redisTemplate.getExpire(cacheRegion.redisKey(key), TimeUnit.MILLISECONDS);
+        return Objects.nonNull(remaining) && remaining >= 0 && remaining <= cacheRegion.getRedisTtl().toMillis() * (1 - cacheRegion.getRefreshAheadRatio());
+    }
+
+    /**
+     * 后台提前刷新缓存数据; 使用 Redis 时只有获取到租约锁的节点重新加载, 结果写入 Redis 和本节点本地缓存, 数据只是续期, 不广播缓存失效消息;
+     * 重新加载期间数据可能已被删除或覆盖, 写回时本地缓存仅在数据仍为旧值时替换, Redis 通过 Lua 脚本比较刷新开始时的值后写入, 不会把已删除或已更新的数据写回
+     *
+     * @param cacheRegion 缓存区域对象
+     * @param key         缓存的键
+     * @param current     触发提前刷新时读取到的值
+     * @param loader      加载函数
+     */
+    private void refreshAhead(CacheRegion cacheRegion, String key, Object current, Function<String, ?> loader) {
+        long version = cacheRegion.currentInvalidationVersion();
+        // 1. 只使用本地缓存时直接重新加载, 本地缓存数据仍为旧值时才替换
+        if (mode == CacheModeEnum.LOCAL) {
+            Object refreshed = loader.apply(key);
+            if (Objects.nonNull(refreshed)) {
+                cacheRegion.replaceLocalIfNotInvalidated(key, current, refreshed, version);
+            }
+            return;
+        }
+        // 2. 两级缓存模式下按 Redis 剩余有效期判断, 其他节点已刷新时跳过
+        if (mode == CacheModeEnum.TIERED && !isRedisNearExpiry(cacheRegion, key)) {
+            return;
+        }
+        // 3. 未获取到租约锁说明其他节点正在加载或刷新, 跳过
+        String lockKey = cacheRegion.redisKey(key) + LOAD_LOCK_SUFFIX;
+        String owner = IdUtil.fastSimpleUUID();
+        if (!redisLeaseLock.tryAcquire(lockKey, owner, loadLeaseTime)) {
+            return;
+        }
+        try {
+            // 4. 记录刷新开始时 Redis 中的值, 数据已被删除时不再刷新
+            byte[] expected = getRedisRaw(cacheRegion, key);
+            if (Objects.isNull(expected)) {
+                return;
+            }
+            // 5. 重新加载, Redis 中的值未变化时才写入, 写入成功后本地缓存数据仍为旧值时才替换
+            Object refreshed = loader.apply(key);
+            if (Objects.nonNull(refreshed) && compareAndSetRedis(cacheRegion, key, expected, refreshed) && mode == CacheModeEnum.TIERED) {
+                cacheRegion.replaceLocalIfNotInvalidated(key, current, refreshed, version);
+            }
+        } finally {
+            redisLeaseLock.release(lockKey, owner);
+        }
+    }
+
+    /**
+     * 批量获取缓存数据
+     *
+     * @param region 缓存区域名称
+     * @param keys   缓存的键集合
+     * @return 已缓存的数据, key 为缓存的键, 未缓存的键不包含在内
+     */
+    public Map<String, Object> getAll(String region, Collection<String> keys) {
+        CacheRegion cacheRegion = getRegion(region);
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        return switch (mode) {
+            case LOCAL -> cacheRegion.getLocalCache().getAllPresent(keys);
+            case REDIS -> multiGetRedis(cacheRegion, keys);
+            case TIERED -> {
+                // 1. 先从本地缓存获取
+                Map<String, Object> result = new HashMap<>(cacheRegion.getLocalCache().getAllPresent(keys));
+                // 2. 本地缓存未命中的键通过一次 MGET 从 Redis 获取并回填本地缓存
+                List<String> missingKeys = keys.stream().filter(key -> !result.containsKey(key)).distinct().toList();
+                if (!missingKeys.isEmpty()) {
+                    long version = cacheRegion.currentInvalidationVersion();
+                    Map<String, Object> redisValues = multiGetRedis(cacheRegion, missingKeys);
+                    cacheRegion.putAllLocalIfNotInvalidated(redisValues, version);
+                    result.putAll(redisValues);
+                }
+                yield result;
+            }
+        };
+    }
+
+    /**
+     * 批量获取缓存数据, 未缓存的键通过批量加载函数一次加载并写入缓存, 加载结果中不包含的键不缓存
+     *
+     * @param region      缓存区域名称
+     * @param keys        缓存的键集合
+     * @param batchLoader 批量加载函数, 入参为未缓存的键集合, 返回加载到的数据; 为 null 时不加载
+     * @param <T>         缓存值类型
+     * @return 缓存的数据, key 为缓存的键, 缓存和加载结果中都不存在的键不包含在内
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Map<String, T> getAll(String region, Collection<String> keys, Function<Set<String>, Map<String, T>> batchLoader) {
+        Map<String, T> result = new HashMap<>((Map<String, T>) getAll(region, keys));
+        if (Objects.isNull(batchLoader)) {
+            return result;
+        }
+        // 未缓存的键一次加载, 加载结果批量写入缓存
+        Set<String> missingKeys = new LinkedHashSet<>(keys);
+        missingKeys.removeAll(result.keySet());
+        if (missingKeys.isEmpty()) {
+            return result;
+        }
+        Map<String, T> loaded = batchLoader.apply(missingKeys);
+        if (Objects.nonNull(loaded) && !loaded.isEmpty()) {
+            Map<String, T> values = new HashMap<>();
+            loaded.forEach((key, value) -> {
+                if (Objects.nonNull(value)) {
+                    values.put(key, value);
+                }
+            });
+            putAll(region, values);
+            result.putAll(values);
+        }
+        return result;
+    }
+
+    /**
+     * 批量缓存数据
+     *
+     * @param region    缓存区域名称
+     * @param keyValues 需要缓存的数据, key 为缓存的键, value 为缓存的值
+     * @return 返回是否操作成功的结果 {@link Boolean}
+     */
+    public Boolean putAll(String region, Map<String, ?> keyValues) {
+        CacheRegion cacheRegion = getRegion(region);
+        if (keyValues.isEmpty()) {
             return Boolean.TRUE;
         }
-        caffeineCache.invalidate(key);
+        switch (mode) {
+            case LOCAL -> cacheRegion.getLocalCache().putAll(keyValues);
+            case REDIS -> pipelineSetRedis(cacheRegion, keyValues);
+            case TIERED -> {
+                // 先写 Redis, 再移除所有节点的旧本地缓存, 最后写入本节点本地缓存
+                pipelineSetRedis(cacheRegion, keyValues);
+                invalidationBus.publish(INVALIDATION_REGION_PREFIX + region, keyValues.keySet());
+                cacheRegion.getLocalCache().putAll(keyValues);
+            }
+        }
         return Boolean.TRUE;
     }
 
+    /**
+     * 批量删除缓存数据
+     *
+     * @param region 缓存区域名称
+     * @param keys   缓存的键集合
+     * @return 删除结果 {@link Boolean}
+     */
+    public Boolean deleteAll(String region, Collection<String> keys) {
+        CacheRegion cacheRegion = getRegion(region);
+        if (keys.isEmpty()) {
+            return Boolean.TRUE;
+        }
+        switch (mode) {
+            case LOCAL -> cacheRegion.getLocalCache().invalidateAll(keys);
+            case REDIS -> redisTemplate.delete(keys.stream().map(cacheRegion::redisKey).toList());
+            case TIERED -> {
+                // 先删除 Redis, 再移除所有节点的本地缓存, 避免其他节点从 Redis 回填旧值
+                redisTemplate.delete(keys.stream().map(cacheRegion::redisKey).toList());
+                invalidationBus.publish(INVALIDATION_REGION_PREFIX + region, keys);
+            }
+        }
+        return Boolean.TRUE;
+    }
+
+    /**
+     * 使用 Redis 缓存时, 合并本节点内同一 key 的并发加载, 后到的调用方等待进行中的加载任务
+     *
+     * @param cacheRegion 缓存区域对象
+     * @param key         缓存的键
+     * @param loader      缓存未命中时的加载函数
+     * @return 缓存的值, 不存在时为 null
+     */
+    private Object loadOnce(CacheRegion cacheRegion, String key, Function<String, ?> loader) {
+        String redisKey = cacheRegion.redisKey(key);
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> inflight = inflightLoads.putIfAbsent(redisKey, future);
+        // 1. 已有进行中的加载任务时等待其结果
+        if (Objects.nonNull(inflight)) {
+            try {
+                return inflight.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+            }
+        }
+        // 2. 本线程执行加载, 完成后移除加载任务
+        try {
+            Object value = loadThroughRedis(cacheRegion, key, loader);
+            future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflightLoads.remove(redisKey, future);
+        }
+    }
+
+    /**
+     * 从 Redis 获取缓存数据, 未命中时由获取到租约锁的节点执行加载并写入 Redis, 其他节点轮询等待加载结果;
+     * 持有锁的节点加载结果为 null 或崩溃时锁被释放或到期, 等待的节点重新竞争租约锁; 等待超过租约时间时本节点自行加载且不写入 Redis
+     *
+     * @param cacheRegion 缓存区域对象
+     * @param key         缓存的键
+     * @param loader      缓存未命中时的加载函数
+     * @return 缓存的值, 不存在时为 null
+     */
+    private Object loadThroughRedis(CacheRegion cacheRegion, String key, Function<String, ?> loader) {
+        String redisKey = cacheRegion.redisKey(key);
+        String lockKey = redisKey + LOAD_LOCK_SUFFIX;
+        long deadline = System.currentTimeMillis() + loadLeaseTime.toMillis();
+        while (true) {
+            // 1. Redis 中已存在时直接返回
+            Object value = redisTemplate.opsForValue().get(redisKey);
+            if (Objects.nonNull(value)) {
+                return value;
+            }
+            // 2. 获取到租约锁时执行加载
+            String owner = IdUtil.fastSimpleUUID();
+            if (redisLeaseLock.tryAcquire(lockKey, owner, loadLeaseTime)) {
+                try {
+                    // 获取锁之前其他节点可能已完成加载并释放锁
+                    value = redisTemplate.opsForValue().get(redisKey);
+                    if (Objects.nonNull(value)) {
+                        return value;
+                    }
+                    value = loader.apply(key);
+                    if (Objects.nonNull(value)) {
+                        setRedis(cacheRegion, key, value);
+                    }
+                    return value;
+                } finally {
+                    redisLeaseLock.release(lockKey, owner);
+                }
+            }
+            // 3. 等待超过租约时间仍未得到结果时自行加载, 不写入 Redis 避免覆盖持有锁节点的结果
+            if (System.currentTimeMillis() >= deadline) {
+                log.warn("等待缓存加载结果超时, 本节点自行加载, 缓存 key 为: {}", redisKey);
+                return loader.apply(key);
+            }
+            // 4. 等待持有锁的节点加载完成
+            try {
+                Thread.sleep(loadWaitInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServiceException("等待缓存加载结果时线程被中断, 缓存 key 为: " + redisKey);
+            }
+        }
+    }
+
+    /**
+     * 获取指定名称的缓存区域
+     *
+     * @param region 缓存区域名称
+     * @return 缓存区域对象 {@link CacheRegion}
+     */
+    private CacheRegion getRegion(String region) {
+        CacheRegion cacheRegion = regions.get(region);
+        if (Objects.isNull(cacheRegion)) {
+            throw new ServiceException("缓存区域 " + region + " 未配置 !");
+        }
+        return cacheRegion;
+    }
+
+    /**
+     * 通过一次 MGET 从 Redis 批量获取缓存数据
+     *
+     * @param cacheRegion 缓存区域对象
+     * @param keys        缓存的键集合
+     * @return 已缓存的数据, key 为缓存的键, 未缓存的键不包含在内
+     */
+    private Map<String, Object> multiGetRedis(CacheRegion cacheRegion, Collection<String> keys) {
+        List<String> keyList = List.copyOf(new LinkedHashSet<>(keys));
+        List<Object> values = redisTemplate.opsForValue().multiGet(keyList.stream().map(cacheRegion::redisKey).toList());
+        Map<String, Object> result = new HashMap<>();
+        if (Objects.isNull(values)) {
+            return result;
+        }
+        for (int i = 0; i < keyList.size(); i++) {
+            if (Objects.nonNull(values.get(i))) {
+                result.put(keyList.get(i), values.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 按缓存区域的有效期通过 Redis 管道一次发送全部 SET 命令
+     *
+     * @param cacheRegion 缓存区域对象
+     * @param keyValues   需要缓存的数据, key 为缓存的键, value 为缓存的值
+     */
+    @SuppressWarnings("unchecked")
+    private void pipelineSetRedis(CacheRegion cacheRegion, Map<String, ?> keyValues) {
+        RedisSerializer<String> keySerializer = (RedisSerializer<String>) redisTemplate.getKeySerializer();
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        Expiration expiration = cacheRegion.hasRedisTtl() ? Expiration.from(cacheRegion.getRedisTtl()) : Expiration.persistent();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            keyValues.forEach((key, value) -> connection.stringCommands().set(
+                    Objects.requireNonNull(keySerializer.serialize(cacheRegion.redisKey(key))),
+                    Objects.requireNonNull(valueSerializer.serialize(value)),
+                    expiration,
+                    RedisStringCommands.SetOption.upsert()));
+            return null;
+        });
+    }
+
+    /**
+     * 读取 Redis 中缓存数据序列化后的原始值
+     *
+     * @param cacheRegion 缓存区域对象
+     * @param key         缓存的键
+     * @return 序列化后的原始值, 不存在时为 null
+     */
+    @SuppressWarnings("unchecked")
+    private byte[] getRedisRaw(CacheRegion cacheRegion, String key) {
+        byte[] rawKey = Objects.requireNonNull(((RedisSerializer<String>) redisTemplate.getKeySerializer()).serialize(cacheRegion.redisKey(key)));
+        return redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(rawKey));
+    }
+
+    /**
+     * Redis 中的值仍为指定原始值时按缓存区域的有效期写入新值, 值已被删除或覆盖时不写入
+     *
+     * @param cacheRegion 缓存区域对象
+     * @param key         缓存的键
+     * @param expected    期望的序列化后原始值
+     * @param value       新值
+     * @return true: 已写入; false: 值已变化, 未写入
+     */
+    @SuppressWarnings("unchecked")
+    private boolean compareAndSetRedis(CacheRegion cacheRegion, String key, byte[] expected, Object value) {
+        byte[] rawKey = Objects.requireNonNull(((RedisSerializer<String>) redisTemplate.getKeySerializer()).serialize(cacheRegion.redisKey(key)));
+        byte[] rawValue = Objects.requireNonNull(((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(value));
+        byte[] ttl = String.valueOf(cacheRegion.hasRedisTtl() ? cacheRegion.getRedisTtl().toMillis() : 0L).getBytes(StandardCharsets.UTF_8);
+        return Boolean.TRUE.equals(redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.scriptingCommands()
+                .eval(COMPARE_AND_SET_SCRIPT, ReturnType.BOOLEAN, 1, rawKey, expected, rawValue, ttl)));
+    }
+
+    /**
+     * 按缓存区域的有效期将数据写入 Redis
+     *
+     * @param cacheRegion 缓存区域对象
+     * @param key         缓存的键
+     * @param value       缓存的值
+     */
+    private void setRedis(CacheRegion cacheRegion, String key, Object value) {
+        if (cacheRegion.hasRedisTtl()) {
+            redisTemplate.opsForValue().set(cacheRegion.redisKey(key), value, cacheRegion.getRedisTtl());
+            return;
+        }
+        redisTemplate.opsForValue().set(cacheRegion.redisKey(key), value);
+    }
+
 }
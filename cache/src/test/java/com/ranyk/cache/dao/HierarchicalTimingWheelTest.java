@@ -0,0 +1,94 @@
+package com.ranyk.cache.dao;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASS_NAME: HierarchicalTimingWheelTest.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 分层时间轮单元测试类, 从 0 时刻开始手动推进时间, 验证高层槽位降级、过期时间变更以及到期顺序
+ * @date: 2026-10-18
+ */
+class HierarchicalTimingWheelTest {
+
+    /**
+     * 超过一层跨度的条目先挂载在高层槽位, 随时间推进逐层降级, 在到期刻度准时到期
+     */
+    @Test
+    void entriesCascadeDownToTheirDeadline() {
+        HierarchicalTimingWheel timingWheel = new HierarchicalTimingWheel(0L);
+        TimingWheelEntry minutes = new TimingWheelEntry("minutes", "v", 125_000L);
+        TimingWheelEntry hours = new TimingWheelEntry("hours", "v", 3_725_000L);
+        timingWheel.schedule(minutes);
+        timingWheel.schedule(hours);
+        List<String> due = new ArrayList<>();
+
+        timingWheel.advance(124_999L, entry -> due.add(entry.key));
+        assertTrue(due.isEmpty());
+        assertNotNull(minutes.bucket);
+
+        timingWheel.advance(125_000L, entry -> due.add(entry.key));
+        assertEquals(List.of("minutes"), due);
+        assertNull(minutes.bucket);
+
+        timingWheel.advance(3_724_999L, entry -> due.add(entry.key));
+        assertEquals(List.of("minutes"), due);
+
+        timingWheel.advance(3_725_000L, entry -> due.add(entry.key));
+        assertEquals(List.of("minutes", "hours"), due);
+    }
+
+    /**
+     * 过期时间变更后重新挂载, 只在新的过期时间到期; 延长和缩短都生效
+     */
+    @Test
+    void rescheduleMovesEntryToNewDeadline() {
+        HierarchicalTimingWheel timingWheel = new HierarchicalTimingWheel(0L);
+        TimingWheelEntry extended = new TimingWheelEntry("extended", "v", 10_000L);
+        TimingWheelEntry shortened = new TimingWheelEntry("shortened", "v", 300_000L);
+        timingWheel.schedule(extended);
+        timingWheel.schedule(shortened);
+        extended.expireAt = 70_000L;
+        timingWheel.schedule(extended);
+        shortened.expireAt = 5_000L;
+        timingWheel.schedule(shortened);
+        List<String> due = new ArrayList<>();
+
+        timingWheel.advance(10_000L, entry -> due.add(entry.key));
+        assertEquals(List.of("shortened"), due);
+
+        timingWheel.advance(69_999L, entry -> due.add(entry.key));
+        assertEquals(List.of("shortened"), due);
+
+        timingWheel.advance(300_000L, entry -> due.add(entry.key));
+        assertEquals(List.of("shortened", "extended"), due);
+    }
+
+    /**
+     * 不同层级的条目按过期时间先后到期, 已摘除和永不过期的条目不会到期
+     */
+    @Test
+    void entriesExpireInDeadlineOrder() {
+        HierarchicalTimingWheel timingWheel = new HierarchicalTimingWheel(0L);
+        timingWheel.schedule(new TimingWheelEntry("3s", "v", 3_000L));
+        timingWheel.schedule(new TimingWheelEntry("120s", "v", 120_000L));
+        timingWheel.schedule(new TimingWheelEntry("1s", "v", 500L));
+        timingWheel.schedule(new TimingWheelEntry("61s", "v", 61_000L));
+        timingWheel.schedule(new TimingWheelEntry("2s", "v", 2_000L));
+        timingWheel.schedule(new TimingWheelEntry("never", "v", Long.MAX_VALUE));
+        TimingWheelEntry cancelled = new TimingWheelEntry("cancelled", "v", 30_000L);
+        timingWheel.schedule(cancelled);
+        timingWheel.cancel(cancelled);
+        List<String> due = new ArrayList<>();
+
+        timingWheel.advance(200_000L, entry -> due.add(entry.key));
+
+        assertEquals(List.of("1s", "2s", "3s", "61s", "120s"), due);
+    }
+}
@@ -0,0 +1,173 @@
+package com.ranyk.cache.dao;
+
+import cn.dev33.satoken.SaManager;
+import cn.dev33.satoken.json.SaJsonTemplateForJackson;
+import cn.dev33.satoken.session.SaSession;
+import com.ranyk.cache.bus.LocalInvalidationBus;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASS_NAME: RedisSaTokenDaoTest.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 基于 Redis 的 SaTokenDao 单元测试类, 通过容器启动真实 Redis, 未安装 Docker 时跳过;
+ * 两个 SaTokenDao 对象共用一个进程内缓存失效消息总线, 模拟两个节点
+ * @date: 2026-10-18
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisSaTokenDaoTest {
+
+    /**
+     * token -> 登录 ID 映射 key
+     */
+    private static final String TOKEN_KEY = "satoken:login:token:abc";
+    /**
+     * Redis 容器
+     */
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+    /**
+     * Redis 连接工厂对象
+     */
+    private static LettuceConnectionFactory connectionFactory;
+    /**
+     * Redis 缓存模板对象, 序列化方式与缓存配置类一致
+     */
+    private static RedisTemplate<String, Object> redisTemplate;
+    /**
+     * 缓存失效消息总线对象
+     */
+    private LocalInvalidationBus invalidationBus;
+    /**
+     * 节点一的 SaTokenDao 对象
+     */
+    private RedisSaTokenDao nodeOne;
+    /**
+     * 节点二的 SaTokenDao 对象
+     */
+    private RedisSaTokenDao nodeTwo;
+
+    @BeforeAll
+    static void startRedis() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+        SaManager.setSaJsonTemplate(new SaJsonTemplateForJackson());
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+        invalidationBus = new LocalInvalidationBus();
+        nodeOne = new RedisSaTokenDao(redisTemplate, invalidationBus, 60, 100);
+        nodeTwo = new RedisSaTokenDao(redisTemplate, invalidationBus, 60, 100);
+    }
+
+    /**
+     * token 映射被修改后, 其他节点的近端缓存被移除, 读取到新值; 绕过 SaTokenDao 直接修改 Redis 时近端缓存仍返回旧值
+     */
+    @Test
+    void updateInvalidatesNearCacheOnEveryNode() {
+        nodeOne.set(TOKEN_KEY, "1", 600);
+        assertEquals("1", nodeTwo.get(TOKEN_KEY));
+
+        redisTemplate.opsForValue().set(TOKEN_KEY, "2");
+        assertEquals("1", nodeTwo.get(TOKEN_KEY));
+
+        nodeOne.update(TOKEN_KEY, "3");
+        assertEquals("3", nodeTwo.get(TOKEN_KEY));
+        assertTrue(nodeOne.getTimeout(TOKEN_KEY) > 0);
+    }
+
+    /**
+     * 批量修改只修改已存在的 key 且保留剩余有效期, 包含 token 映射时移除所有节点的近端缓存
+     */
+    @Test
+    void updateAllSetsOnlyExistingKeysAndKeepsTtl() {
+        nodeOne.set(TOKEN_KEY, "1", 600);
+        nodeOne.set("satoken:login:last-active:abc", "100", 600);
+        assertEquals("1", nodeTwo.get(TOKEN_KEY));
+
+        Map<String, String> keyValues = new HashMap<>();
+        keyValues.put(TOKEN_KEY, "2");
+        keyValues.put("satoken:login:last-active:abc", "200");
+        keyValues.put("satoken:login:last-active:missing", "300");
+        nodeOne.updateAll(keyValues);
+
+        assertEquals("2", nodeTwo.get(TOKEN_KEY));
+        assertEquals("200", nodeOne.get("satoken:login:last-active:abc"));
+        long timeout = nodeOne.getTimeout("satoken:login:last-active:abc");
+        assertTrue(timeout > 0 && timeout <= 600);
+        assertNull(nodeOne.get("satoken:login:last-active:missing"));
+    }
+
+    /**
+     * 批量删除通过一次发布移除所有节点的 token 近端缓存, 发布的 key 只包含 token 映射
+     */
+    @Test
+    void deleteAllRemovesKeysAndPublishesTokenKeysOnce() {
+        List<Set<String>> published = new ArrayList<>();
+        invalidationBus.subscribe(RedisSaTokenDao.INVALIDATION_REGION, published::add);
+        nodeOne.set(TOKEN_KEY, "1", 600);
+        nodeOne.set("satoken:login:session:1", "session", 600);
+        assertEquals("1", nodeTwo.get(TOKEN_KEY));
+
+        nodeOne.deleteAll(List.of(TOKEN_KEY, "satoken:login:session:1"));
+
+        assertNull(nodeTwo.get(TOKEN_KEY));
+        assertNull(nodeOne.get("satoken:login:session:1"));
+        assertEquals(List.of(Set.of(TOKEN_KEY)), published);
+    }
+
+    /**
+     * 会话对象经 Sa-Token 序列化为字符串保存后, 读取、修改时数据和有效期保持不变
+     */
+    @Test
+    void sessionRoundTripsThroughStringSerialization() {
+        SaSession session = new SaSession("satoken:login:session:1");
+        session.set("userName", "ranyk");
+        nodeOne.setSession(session, 600);
+
+        SaSession restored = nodeTwo.getSession("satoken:login:session:1");
+        assertNotNull(restored);
+        assertEquals("satoken:login:session:1", restored.getId());
+        assertEquals("ranyk", restored.get("userName"));
+
+        restored.set("nickName", "ran");
+        nodeTwo.updateSession(restored);
+        SaSession updated = nodeOne.getSession("satoken:login:session:1");
+        assertEquals("ran", updated.get("nickName"));
+        assertTrue(nodeOne.getSessionTimeout("satoken:login:session:1") > 0);
+    }
+}
@@ -0,0 +1,66 @@
+package com.ranyk.cache.dao;
+
+import cn.dev33.satoken.dao.SaTokenDao;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASS_NAME: TimingWheelSaTokenDaoTest.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 基于分层时间轮的 SaTokenDao 单元测试类, 验证存活时间的写入、修改以及批量修改、删除; 不启动推进线程, 过期数据由读取时校验移除
+ * @date: 2026-10-18
+ */
+class TimingWheelSaTokenDaoTest {
+
+    /**
+     * 修改存活时间后剩余存活时间随之变化, 修改值时存活时间不变, 存活时间改为 0 后立即读不到
+     */
+    @Test
+    void timeoutUpdatesAreApplied() {
+        TimingWheelSaTokenDao dao = new TimingWheelSaTokenDao();
+        dao.set("satoken:login:token:abc", "1", 100);
+        long timeout = dao.getTimeout("satoken:login:token:abc");
+        assertTrue(timeout >= 99 && timeout <= 100);
+
+        dao.updateTimeout("satoken:login:token:abc", 1000);
+        timeout = dao.getTimeout("satoken:login:token:abc");
+        assertTrue(timeout >= 999 && timeout <= 1000);
+
+        dao.updateTimeout("satoken:login:token:abc", SaTokenDao.NEVER_EXPIRE);
+        dao.update("satoken:login:token:abc", "2");
+        assertEquals("2", dao.get("satoken:login:token:abc"));
+        assertEquals(SaTokenDao.NEVER_EXPIRE, dao.getTimeout("satoken:login:token:abc"));
+
+        dao.updateTimeout("satoken:login:token:abc", 0);
+        assertNull(dao.get("satoken:login:token:abc"));
+        assertEquals(SaTokenDao.NOT_VALUE_EXPIRE, dao.getTimeout("satoken:login:token:abc"));
+    }
+
+    /**
+     * 存活时间为 0 时不写入, 批量修改忽略不存在的 key, 批量删除移除全部指定 key
+     */
+    @Test
+    void batchOperationsTouchOnlyExistingKeys() {
+        TimingWheelSaTokenDao dao = new TimingWheelSaTokenDao();
+        dao.set("satoken:login:token:zero", "0", 0);
+        dao.set("satoken:login:token:abc", "1", 100);
+        dao.set("satoken:login:last-active:abc", "100", 100);
+
+        dao.updateAll(Map.of("satoken:login:last-active:abc", "200", "satoken:login:last-active:missing", "300"));
+
+        assertNull(dao.get("satoken:login:token:zero"));
+        assertEquals("200", dao.get("satoken:login:last-active:abc"));
+        assertNull(dao.get("satoken:login:last-active:missing"));
+
+        dao.deleteAll(List.of("satoken:login:token:abc", "satoken:login:last-active:abc"));
+
+        assertNull(dao.get("satoken:login:token:abc"));
+        assertNull(dao.get("satoken:login:last-active:abc"));
+    }
+}
@@ -0,0 +1,95 @@
+package com.ranyk.cache.dao;
+
+import cn.dev33.satoken.dao.SaTokenDao;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * CLASS_NAME: WriteBehindSaTokenDaoTest.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: token 最后活跃时间延迟写入的 SaTokenDao 装饰类单元测试类, 验证合并写入、直接写入和删除时丢弃尚未写入的值以及销毁时写入剩余数据;
+ * 不启动批量写入线程, 由销毁触发写入
+ * @date: 2026-10-18
+ */
+class WriteBehindSaTokenDaoTest {
+
+    /**
+     * token 最后活跃时间 key
+     */
+    private static final String LAST_ACTIVE_KEY = "satoken:login:last-active:abc";
+
+    /**
+     * 同一 token 的多次修改只保留最新值, 写入前本节点读到最新值, 写入时一次批量修改
+     */
+    @Test
+    void repeatedUpdatesAreCoalesced() {
+        TimingWheelSaTokenDao delegate = spy(new TimingWheelSaTokenDao());
+        delegate.set(LAST_ACTIVE_KEY, "0", 100);
+        WriteBehindSaTokenDao dao = new WriteBehindSaTokenDao(delegate, 1000);
+
+        dao.update(LAST_ACTIVE_KEY, "1");
+        dao.update(LAST_ACTIVE_KEY, "2");
+        dao.update(LAST_ACTIVE_KEY, "3");
+
+        assertEquals("3", dao.get(LAST_ACTIVE_KEY));
+        assertEquals("0", delegate.get(LAST_ACTIVE_KEY));
+        verify(delegate, never()).update(anyString(), anyString());
+
+        dao.destroy();
+
+        verify(delegate, times(1)).updateAll(Map.of(LAST_ACTIVE_KEY, "3"));
+    }
+
+    /**
+     * 直接写入、删除、批量删除时丢弃尚未写入的值, 之后不会被旧值覆盖
+     */
+    @Test
+    void pendingValuesAreDroppedOnSetAndDelete() {
+        TimingWheelSaTokenDao delegate = spy(new TimingWheelSaTokenDao());
+        WriteBehindSaTokenDao dao = new WriteBehindSaTokenDao(delegate, 1000);
+        dao.update("satoken:login:last-active:set", "stale");
+        dao.update("satoken:login:last-active:delete", "stale");
+        dao.update("satoken:login:last-active:delete-all", "stale");
+
+        dao.set("satoken:login:last-active:set", "fresh", 100);
+        dao.delete("satoken:login:last-active:delete");
+        dao.deleteAll(List.of("satoken:login:last-active:delete-all"));
+
+        assertEquals("fresh", dao.get("satoken:login:last-active:set"));
+        assertNull(dao.get("satoken:login:last-active:delete"));
+        assertNull(dao.get("satoken:login:last-active:delete-all"));
+
+        dao.destroy();
+
+        verify(delegate, never()).updateAll(anyMap());
+    }
+
+    /**
+     * 销毁时写入剩余数据后再销毁被装饰的持久层, 持久层不支持批量修改时逐个写入; 非最后活跃时间的修改直接写入
+     */
+    @Test
+    void destroyFlushesPendingValues() {
+        SaTokenDao delegate = mock(SaTokenDao.class);
+        WriteBehindSaTokenDao dao = new WriteBehindSaTokenDao(delegate, 1000);
+        dao.update(LAST_ACTIVE_KEY, "1");
+        dao.update("satoken:login:token:abc", "1");
+
+        verify(delegate).update("satoken:login:token:abc", "1");
+        verify(delegate, never()).update(LAST_ACTIVE_KEY, "1");
+
+        dao.destroy();
+
+        var inOrder = inOrder(delegate);
+        inOrder.verify(delegate).update(LAST_ACTIVE_KEY, "1");
+        inOrder.verify(delegate).destroy();
+    }
+}
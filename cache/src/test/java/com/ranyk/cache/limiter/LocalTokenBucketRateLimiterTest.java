@@ -0,0 +1,53 @@
+package com.ranyk.cache.limiter;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASS_NAME: LocalTokenBucketRateLimiterTest.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 进程内令牌桶限流器单元测试类, 验证令牌耗尽后拒绝、按速率补充以及补充不超过容量
+ * @date: 2026-10-18
+ */
+class LocalTokenBucketRateLimiterTest {
+
+    /**
+     * 令牌桶初始为满, 允许容量次突发访问后拒绝, 不同 key 的令牌桶互不影响
+     */
+    @Test
+    void rejectsWhenBucketIsEmpty() {
+        LocalTokenBucketRateLimiter rateLimiter = new LocalTokenBucketRateLimiter(100, Duration.ofMinutes(1));
+
+        assertTrue(rateLimiter.tryAcquire("user-a", 3, 0.001));
+        assertTrue(rateLimiter.tryAcquire("user-a", 3, 0.001));
+        assertTrue(rateLimiter.tryAcquire("user-a", 3, 0.001));
+        assertFalse(rateLimiter.tryAcquire("user-a", 3, 0.001));
+        assertTrue(rateLimiter.tryAcquire("user-b", 3, 0.001));
+    }
+
+    /**
+     * 令牌耗尽后按补充速率恢复, 长时间未访问也最多补满容量
+     */
+    @Test
+    void refillsAtRateUpToCapacity() throws InterruptedException {
+        LocalTokenBucketRateLimiter rateLimiter = new LocalTokenBucketRateLimiter(100, Duration.ofMinutes(1));
+        assertTrue(rateLimiter.tryAcquire("user-a", 2, 10));
+        assertTrue(rateLimiter.tryAcquire("user-a", 2, 10));
+        assertFalse(rateLimiter.tryAcquire("user-a", 2, 10));
+
+        // 每秒补充 10 个令牌, 等待 150 毫秒至少补充 1 个
+        Thread.sleep(150);
+        assertTrue(rateLimiter.tryAcquire("user-a", 2, 10));
+
+        // 等待足以补充 10 个令牌的时间, 令牌数仍不超过容量 2
+        Thread.sleep(1000);
+        assertTrue(rateLimiter.tryAcquire("user-a", 2, 10));
+        assertTrue(rateLimiter.tryAcquire("user-a", 2, 10));
+        assertFalse(rateLimiter.tryAcquire("user-a", 2, 10));
+    }
+}
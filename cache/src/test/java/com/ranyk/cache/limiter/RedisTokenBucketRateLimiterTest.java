@@ -0,0 +1,106 @@
+package com.ranyk.cache.limiter;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASS_NAME: RedisTokenBucketRateLimiterTest.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 基于 Redis 的令牌桶限流器单元测试类, 通过容器启动真实 Redis, 未安装 Docker 时跳过; 验证令牌耗尽后拒绝、按速率补充以及令牌桶有效期
+ * @date: 2026-10-18
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisTokenBucketRateLimiterTest {
+
+    /**
+     * Redis 容器
+     */
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+    /**
+     * Redis 连接工厂对象
+     */
+    private static LettuceConnectionFactory connectionFactory;
+    /**
+     * Redis 字符串模板对象
+     */
+    private static StringRedisTemplate stringRedisTemplate;
+    /**
+     * 令牌桶限流器对象
+     */
+    private RedisTokenBucketRateLimiter rateLimiter;
+
+    @BeforeAll
+    static void startRedis() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+        rateLimiter = new RedisTokenBucketRateLimiter(stringRedisTemplate);
+    }
+
+    /**
+     * 令牌桶初始为满, 允许容量次突发访问后拒绝, 不同 key 的令牌桶互不影响; 令牌桶按补满所需时间设置有效期
+     */
+    @Test
+    void rejectsWhenBucketIsEmpty() {
+        assertTrue(rateLimiter.tryAcquire("user-a", 3, 0.01));
+        assertTrue(rateLimiter.tryAcquire("user-a", 3, 0.01));
+        assertTrue(rateLimiter.tryAcquire("user-a", 3, 0.01));
+        assertFalse(rateLimiter.tryAcquire("user-a", 3, 0.01));
+        assertTrue(rateLimiter.tryAcquire("user-b", 3, 0.01));
+
+        Long ttl = stringRedisTemplate.getExpire("rate-limiter:user-a", TimeUnit.SECONDS);
+        assertNotNull(ttl);
+        assertTrue(ttl > 0 && ttl <= 301);
+    }
+
+    /**
+     * 令牌耗尽后按补充速率恢复, 长时间未访问也最多补满容量
+     */
+    @Test
+    void refillsAtRateUpToCapacity() throws InterruptedException {
+        assertTrue(rateLimiter.tryAcquire("user-a", 2, 10));
+        assertTrue(rateLimiter.tryAcquire("user-a", 2, 10));
+        assertFalse(rateLimiter.tryAcquire("user-a", 2, 10));
+
+        // 每秒补充 10 个令牌, 等待 150 毫秒至少补充 1 个
+        Thread.sleep(150);
+        assertTrue(rateLimiter.tryAcquire("user-a", 2, 10));
+
+        // 等待足以补充 10 个令牌的时间, 令牌数仍不超过容量 2
+        Thread.sleep(1000);
+        assertTrue(rateLimiter.tryAcquire("user-a", 2, 10));
+        assertTrue(rateLimiter.tryAcquire("user-a", 2, 10));
+        assertFalse(rateLimiter.tryAcquire("user-a", 2, 10));
+    }
+}
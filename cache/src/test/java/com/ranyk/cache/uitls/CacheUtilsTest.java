@@ -0,0 +1,171 @@
+package com.ranyk.cache.uitls;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ranyk.cache.bus.LocalInvalidationBus;
+import com.ranyk.cache.refresh.CacheRefresher;
+import com.ranyk.cache.region.CacheRegion;
+import com.ranyk.common.constant.CacheModeEnum;
+import com.ranyk.model.exception.service.ServiceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASS_NAME: CacheUtilsTest.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 缓存工具类单元测试类, 验证只使用本地缓存模式下的读写、删除、并发未命中只加载一次以及批量读写和批量加载
+ * @date: 2026-10-18
+ */
+class CacheUtilsTest {
+
+    /**
+     * 缓存区域名称
+     */
+    private static final String REGION = "user";
+    /**
+     * 缓存工具类对象
+     */
+    private CacheUtils cacheUtils;
+
+    @BeforeEach
+    void setUp() {
+        CacheRegion cacheRegion = new CacheRegion(REGION, Caffeine.newBuilder().maximumSize(100).build(), "user:", null, null);
+        cacheUtils = new CacheUtils(CacheModeEnum.LOCAL, Map.of(REGION, cacheRegion), null, null, new LocalInvalidationBus(),
+                new CacheRefresher(1, 10), Duration.ofSeconds(5), Duration.ofMillis(20));
+    }
+
+    /**
+     * 写入后可读取, 删除后读取为 null; 未配置的缓存区域抛出业务异常
+     */
+    @Test
+    void cacheGetAndDelete() {
+        assertTrue(cacheUtils.cache(REGION, "1", "ranyk"));
+        assertEquals("ranyk", cacheUtils.getCache(REGION, "1"));
+
+        assertTrue(cacheUtils.deleteCache(REGION, "1"));
+        assertNull(cacheUtils.getCache(REGION, "1"));
+
+        assertThrows(ServiceException.class, () -> cacheUtils.getCache("missing", "1"));
+    }
+
+    /**
+     * 同一 key 并发未命中时加载函数只执行一次, 所有调用方得到同一结果; 之后命中缓存不再加载
+     */
+    @Test
+    void concurrentMissesLoadOnce() throws Exception {
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return cacheUtils.get(REGION, "1", key -> {
+                        loadCount.incrementAndGet();
+                        sleep(100);
+                        return "user-" + key;
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<String> future : futures) {
+                assertEquals("user-1", future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loadCount.get());
+
+        assertEquals("user-1", cacheUtils.get(REGION, "1", key -> {
+            loadCount.incrementAndGet();
+            return "reloaded";
+        }));
+        assertEquals(1, loadCount.get());
+    }
+
+    /**
+     * 加载结果为 null 时不缓存, 下一次读取重新加载
+     */
+    @Test
+    void nullLoadResultIsNotCached() {
+        AtomicInteger loadCount = new AtomicInteger();
+
+        assertNull(cacheUtils.get(REGION, "1", key -> {
+            loadCount.incrementAndGet();
+            return null;
+        }));
+        assertEquals("user-1", cacheUtils.get(REGION, "1", key -> {
+            loadCount.incrementAndGet();
+            return "user-" + key;
+        }));
+        assertEquals(2, loadCount.get());
+    }
+
+    /**
+     * 批量写入后批量读取, 未缓存的键不包含在结果内; 批量删除后读取不到
+     */
+    @Test
+    void putAllGetAllAndDeleteAll() {
+        cacheUtils.putAll(REGION, Map.of("1", "user-1", "2", "user-2"));
+
+        assertEquals(Map.of("1", "user-1", "2", "user-2"), cacheUtils.getAll(REGION, List.of("1", "2", "3")));
+
+        cacheUtils.deleteAll(REGION, List.of("1", "3"));
+
+        assertEquals(Map.of("2", "user-2"), cacheUtils.getAll(REGION, List.of("1", "2", "3")));
+    }
+
+    /**
+     * 批量加载函数只加载未缓存的键且只执行一次, 加载结果写入缓存; 加载结果中不存在或为 null 的键不缓存, 下一次重新加载
+     */
+    @Test
+    void batchLoaderLoadsOnlyMissingKeys() {
+        cacheUtils.cache(REGION, "1", "user-1");
+        List<Set<String>> loadedKeys = new ArrayList<>();
+        Function<Set<String>, Map<String, String>> batchLoader = keys -> {
+            loadedKeys.add(Set.copyOf(keys));
+            Map<String, String> loaded = new HashMap<>();
+            keys.stream().filter(key -> !"3".equals(key)).forEach(key -> loaded.put(key, "user-" + key));
+            loaded.put("4", null);
+            return loaded;
+        };
+
+        assertEquals(Map.of("1", "user-1", "2", "user-2"), cacheUtils.getAll(REGION, List.of("1", "2", "3", "4"), batchLoader));
+        assertEquals(List.of(Set.of("2", "3", "4")), loadedKeys);
+        assertEquals("user-2", cacheUtils.getCache(REGION, "2"));
+        assertNull(cacheUtils.getCache(REGION, "4"));
+
+        cacheUtils.getAll(REGION, List.of("1", "2", "3"), batchLoader);
+        assertEquals(List.of(Set.of("2", "3", "4"), Set.of("3")), loadedKeys);
+    }
+
+    /**
+     * 休眠指定毫秒数
+     *
+     * @param millis 毫秒数
+     */
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
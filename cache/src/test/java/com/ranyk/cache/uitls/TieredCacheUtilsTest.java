@@ -0,0 +1,208 @@
+package com.ranyk.cache.uitls;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ranyk.cache.bus.LocalInvalidationBus;
+import com.ranyk.cache.lock.RedisLeaseLock;
+import com.ranyk.cache.refresh.CacheRefresher;
+import com.ranyk.cache.region.CacheRegion;
+import com.ranyk.common.constant.CacheModeEnum;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASS_NAME: TieredCacheUtilsTest.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 缓存工具类两级缓存模式单元测试类, 通过容器启动真实 Redis, 未安装 Docker 时跳过;
+ * 两个缓存工具类对象各自持有本地缓存, 共用 Redis 和一个进程内缓存失效消息总线, 模拟两个节点
+ * @date: 2026-10-18
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TieredCacheUtilsTest {
+
+    /**
+     * 缓存区域名称
+     */
+    private static final String REGION = "user";
+    /**
+     * Redis 容器
+     */
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+    /**
+     * Redis 连接工厂对象
+     */
+    private static LettuceConnectionFactory connectionFactory;
+    /**
+     * Redis 缓存模板对象, 序列化方式与缓存配置类一致
+     */
+    private static RedisTemplate<String, Object> redisTemplate;
+    /**
+     * 跨节点加载使用的 Redis 租约锁对象
+     */
+    private static RedisLeaseLock redisLeaseLock;
+    /**
+     * 节点一的缓存工具类对象
+     */
+    private CacheUtils nodeOne;
+    /**
+     * 节点二的缓存工具类对象
+     */
+    private CacheUtils nodeTwo;
+
+    @BeforeAll
+    static void startRedis() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+        redisLeaseLock = new RedisLeaseLock(new StringRedisTemplate(connectionFactory));
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+        LocalInvalidationBus invalidationBus = new LocalInvalidationBus();
+        nodeOne = newNode(invalidationBus);
+        nodeTwo = newNode(invalidationBus);
+    }
+
+    /**
+     * 本地缓存未命中时从 Redis 读取并回填; 其他节点修改或删除后本地缓存被移除, 不会读到旧值
+     */
+    @Test
+    void writesInvalidateLocalCacheOnEveryNode() {
+        nodeOne.cache(REGION, "1", "v1");
+        assertEquals("v1", nodeTwo.getCache(REGION, "1"));
+
+        // 绕过缓存工具类直接修改 Redis 时, 已回填的本地缓存仍返回旧值
+        redisTemplate.opsForValue().set("user:1", "bypass");
+        assertEquals("v1", nodeTwo.getCache(REGION, "1"));
+
+        nodeOne.cache(REGION, "1", "v2");
+        assertEquals("v2", nodeTwo.getCache(REGION, "1"));
+
+        nodeOne.deleteCache(REGION, "1");
+        assertNull(nodeTwo.getCache(REGION, "1"));
+        assertNull(nodeOne.getCache(REGION, "1"));
+        assertNull(redisTemplate.opsForValue().get("user:1"));
+    }
+
+    /**
+     * 两个节点同时未命中时, 只有获取到租约锁的节点执行加载, 另一个节点等待并读取 Redis 中的加载结果; 加载完成后释放租约锁
+     */
+    @Test
+    void concurrentMissesAcrossNodesLoadOnce() {
+        AtomicInteger loadCount = new AtomicInteger();
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> nodeOne.get(REGION, "1", key -> slowLoad(key, loadCount)));
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> nodeTwo.get(REGION, "1", key -> slowLoad(key, loadCount)));
+
+        assertEquals("user-1", first.join());
+        assertEquals("user-1", second.join());
+        assertEquals(1, loadCount.get());
+        assertEquals("user-1", redisTemplate.opsForValue().get("user:1"));
+        assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey("user:1:load-lock")));
+    }
+
+    /**
+     * 批量写入通过管道写入 Redis 并设置有效期, 其他节点批量读取时通过 MGET 获取并回填本地缓存; 批量删除后所有节点都读取不到
+     */
+    @Test
+    void batchOperationsGoThroughRedis() {
+        nodeOne.putAll(REGION, Map.of("1", "user-1", "2", "user-2"));
+
+        Long ttl = redisTemplate.getExpire("user:1");
+        assertNotNull(ttl);
+        assertTrue(ttl > 0 && ttl <= 600);
+        assertEquals(Map.of("1", "user-1", "2", "user-2"), nodeTwo.getAll(REGION, List.of("1", "2", "3")));
+
+        nodeOne.deleteAll(REGION, List.of("1", "2"));
+
+        assertTrue(nodeTwo.getAll(REGION, List.of("1", "2")).isEmpty());
+        assertTrue(nodeOne.getAll(REGION, List.of("1", "2")).isEmpty());
+    }
+
+    /**
+     * 批量加载的结果写入 Redis, 其他节点批量读取时命中, 不再加载
+     */
+    @Test
+    void batchLoaderResultIsSharedAcrossNodes() {
+        AtomicInteger loadCount = new AtomicInteger();
+        Function<Set<String>, Map<String, String>> batchLoader = keys -> {
+            loadCount.incrementAndGet();
+            Map<String, String> loaded = new HashMap<>();
+            keys.forEach(key -> loaded.put(key, "user-" + key));
+            return loaded;
+        };
+
+        assertEquals(Map.of("1", "user-1", "2", "user-2"), nodeOne.getAll(REGION, List.of("1", "2"), batchLoader));
+        assertEquals(Map.of("1", "user-1", "2", "user-2"), nodeTwo.getAll(REGION, List.of("1", "2"), batchLoader));
+        assertEquals(1, loadCount.get());
+    }
+
+    /**
+     * 创建一个节点的缓存工具类对象
+     *
+     * @param invalidationBus 缓存失效消息总线对象
+     * @return 缓存工具类对象
+     */
+    private static CacheUtils newNode(LocalInvalidationBus invalidationBus) {
+        CacheRegion cacheRegion = new CacheRegion(REGION, Caffeine.newBuilder().maximumSize(100).build(), "user:", Duration.ofMinutes(10), null);
+        return new CacheUtils(CacheModeEnum.TIERED, Map.of(REGION, cacheRegion), redisTemplate, redisLeaseLock, invalidationBus,
+                new CacheRefresher(1, 10), Duration.ofSeconds(5), Duration.ofMillis(20));
+    }
+
+    /**
+     * 耗时的加载函数, 记录加载次数
+     *
+     * @param key       缓存的键
+     * @param loadCount 加载次数
+     * @return 加载结果
+     */
+    private static String slowLoad(String key, AtomicInteger loadCount) {
+        loadCount.incrementAndGet();
+        try {
+            Thread.sleep(200);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "user-" + key;
+    }
+}
@@ -0,0 +1,65 @@
+package com.ranyk.common.constant;
+
+import lombok.Getter;
+
+/**
+ * CLASS_NAME: CacheModeEnum.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 缓存模式枚举类
+ * @date: 2026-10-18
+ */
+@Getter
+public enum CacheModeEnum {
+    /**
+     * 缓存模式 - 只使用 Caffeine 本地缓存 枚举类对象
+     */
+    LOCAL(1, "本地缓存"),
+    /**
+     * 缓存模式 - 只使用 Redis 缓存 枚举类对象
+     */
+    REDIS(2, "Redis 缓存"),
+    /**
+     * 缓存模式 - Caffeine 本地缓存作为一级缓存, Redis 缓存作为二级缓存 枚举类对象
+     */
+    TIERED(3, "两级缓存");
+
+    /**
+     * 缓存模式 code
+     */
+    private final Integer code;
+    /**
+     * 缓存模式 name
+     */
+    private final String name;
+
+    /**
+     * 构造方法
+     *
+     * @param code 缓存模式 code
+     * @param name 缓存模式 name
+     */
+    CacheModeEnum(Integer code, String name) {
+        this.code = code;
+        this.name = name;
+    }
+
+    /**
+     * 是否使用 Caffeine 本地缓存
+     *
+     * @return true: 使用; false: 不使用
+     */
+    public boolean useLocal() {
+        return this != REDIS;
+    }
+
+    /**
+     * 是否使用 Redis 缓存
+     *
+     * @return true: 使用; false: 不使用
+     */
+    public boolean useRedis() {
+        return this != LOCAL;
+    }
+}
@@ -0,0 +1,51 @@
+package com.ranyk.common.constant;
+
+import lombok.Getter;
+
+/**
+ * CLASS_NAME: RouteAccessEnum.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 路由访问要求枚举类
+ * @date: 2026-10-18
+ */
+@Getter
+public enum RouteAccessEnum {
+    /**
+     * 路由访问要求 - 无需登录 枚举类对象
+     */
+    ANONYMOUS(0, "无需登录"),
+    /**
+     * 路由访问要求 - 需要登录 枚举类对象
+     */
+    LOGIN(1, "需要登录"),
+    /**
+     * 路由访问要求 - 需要登录且拥有指定角色 枚举类对象
+     */
+    ROLE(2, "需要角色"),
+    /**
+     * 路由访问要求 - 需要登录且拥有指定权限 枚举类对象
+     */
+    PERMISSION(3, "需要权限");
+
+    /**
+     * 路由访问要求 code
+     */
+    private final Integer code;
+    /**
+     * 路由访问要求 name
+     */
+    private final String name;
+
+    /**
+     * 构造方法
+     *
+     * @param code 路由访问要求 code
+     * @param name 路由访问要求 name
+     */
+    RouteAccessEnum(Integer code, String name) {
+        this.code = code;
+        this.name = name;
+    }
+}
@@ -0,0 +1,71 @@
+package com.ranyk.core.utils;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * CLASS_NAME: SingleFlight.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 按 key 合并并发计算的工具类, 同一 key 同时只执行一次计算, 计算期间到达的其他调用等待并共享该次计算的结果或异常;
+ * 计算结束后立即移除, 不缓存结果, 之后的调用会重新计算; 同一线程内不能以相同 key 嵌套调用
+ * @date: 2026-10-18
+ */
+public final class SingleFlight<K, V> {
+
+    /**
+     * 正在执行的计算, key 为计算 key
+     */
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 执行指定 key 的计算, 该 key 已有计算正在执行时等待并返回其结果
+     *
+     * @param key      计算 key
+     * @param supplier 计算函数
+     * @return 计算结果
+     */
+    public V execute(K key, Supplier<V> supplier) {
+        // 1. 已有相同 key 的计算正在执行时, 等待其结果
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return await(existing);
+        }
+        // 2. 由当前线程执行计算, 并把结果或异常交给等待的调用
+        try {
+            V value = supplier.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 等待计算结果, 计算抛出的异常原样抛出
+     *
+     * @param future 计算结果
+     * @return 计算结果
+     */
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.ranyk.core.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * CLASS_NAME: TransactionUtils.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 事务工具类, 将缓存失效、会话吊销等副作用推迟到当前事务提交之后执行, 事务回滚时不执行
+ * @date: 2026-10-18
+ */
+public final class TransactionUtils {
+
+    /**
+     * 私有构造方法, 工具类不允许实例化
+     */
+    private TransactionUtils() {
+    }
+
+    /**
+     * 在当前事务提交后执行指定操作, 不存在事务时立即执行
+     *
+     * @param action 需要执行的操作
+     */
+    public static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
@@ -0,0 +1,25 @@
+-- 角色继承: 角色信息表新增父角色数据 ID 字段
+ALTER TABLE role_info
+    ADD COLUMN parent_id BIGINT COMMENT '父角色数据 ID, 为空时表示顶级角色';
+
+-- 角色继承: 角色继承闭包表, 保存每个角色与其自身及所有上级角色之间的关系; 缺少自身数据的角色在应用启动时根据父角色数据 ID 补全
+CREATE TABLE IF NOT EXISTS role_closure
+(
+    id            BIGINT AUTO_INCREMENT COMMENT '主键 ID',
+    ancestor_id   BIGINT   NOT NULL COMMENT '上级角色数据 ID',
+    descendant_id BIGINT   NOT NULL COMMENT '下级角色数据 ID',
+    depth         INT      NOT NULL COMMENT '上级角色到下级角色的层级距离, 角色与其自身的距离为 0',
+    remark        VARCHAR(1000) COMMENT '数据备注',
+    create_time   DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '数据创建时间',
+    create_id     BIGINT   NOT NULL DEFAULT 1 COMMENT '数据创建人 ID',
+    update_time   DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '数据更新时间',
+    update_id     BIGINT   NOT NULL DEFAULT 1 COMMENT '数据更新人 ID',
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_role_closure_ancestor_descendant (ancestor_id, descendant_id),
+    KEY idx_role_closure_descendant (descendant_id)
+) COMMENT '角色继承闭包表';
+
+
+-- 账户名唯一: 登录账户信息表的登录用户名添加唯一索引, 执行前需先处理已存在的重复账户名
+ALTER TABLE login_account_info
+    ADD UNIQUE KEY uk_login_account_info_user_name (login_user_name);
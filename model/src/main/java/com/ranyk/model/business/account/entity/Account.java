@@ -4,6 +4,7 @@ import com.ranyk.model.base.entity.Base;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
@@ -25,7 +26,7 @@ import java.io.Serializable;
 @SuperBuilder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "login_account_info")
+@Table(name = "login_account_info", uniqueConstraints = @UniqueConstraint(name = "uk_login_account_info_user_name", columnNames = "login_user_name"))
 public class Account extends Base implements Serializable {
 
     @Serial
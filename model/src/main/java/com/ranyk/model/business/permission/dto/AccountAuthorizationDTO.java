@@ -0,0 +1,51 @@
+package com.ranyk.model.business.permission.dto;
+
+import lombok.*;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Set;
+
+/**
+ * CLASS_NAME: AccountAuthorizationDTO.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 账户已解析的有效授权信息封装对象, 包含该账户拥有的权限代码集合和角色代码集合, 用于授权信息缓存
+ * @date: 2026-10-18
+ */
+@Data
+@Builder
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountAuthorizationDTO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 4127093860562915310L;
+    /**
+     * 账户数据 ID
+     */
+    private Long accountId;
+    /**
+     * 账户拥有的权限代码集合(已去重)
+     */
+    private Set<String> permissionCodes;
+    /**
+     * 账户拥有的角色代码集合(已去重)
+     */
+    private Set<String> roleCodes;
+    /**
+     * 账户拥有的权限位图, 第 n 位为 1 表示拥有权限索引为 n 的权限代码, 权限索引由本节点的权限索引注册表分配, 只在本节点有效, 保存到共享会话时为 null
+     */
+    private long[] permissionBits;
+    /**
+     * 账户拥有的权限代码中是否包含通配符 *, 包含时需要按通配符规则进行匹配
+     */
+    private Boolean containsWildcardPermission;
+    /**
+     * 账户拥有的通配符权限代码编译后的分段字典树, 不包含通配符权限代码时为 null
+     */
+    private PermissionSegmentTrie wildcardPermissionTrie;
+}
@@ -0,0 +1,34 @@
+package com.ranyk.model.business.permission.dto;
+
+import lombok.*;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * CLASS_NAME: AccountAuthorizationStampDTO.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 带授权纪元戳的账户授权信息封装对象, 保存在账户会话中, 纪元与当前纪元一致时说明授权信息仍然有效
+ * @date: 2026-10-18
+ */
+@Data
+@Builder
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountAuthorizationStampDTO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -1620475839116347022L;
+    /**
+     * 生成授权信息时的授权纪元
+     */
+    private Long epoch;
+    /**
+     * 账户授权信息
+     */
+    private AccountAuthorizationDTO accountAuthorization;
+}
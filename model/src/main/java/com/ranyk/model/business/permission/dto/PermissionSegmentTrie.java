@@ -0,0 +1,165 @@
+package com.ranyk.model.business.permission.dto;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * CLASS_NAME: PermissionSegmentTrie.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 通配符权限分段字典树, 将以 : 分段的通配符权限代码(如 query:*、*:user:*)编译为字典树, 判断权限时耗时只与被判断权限代码的段数相关, 与授权数量无关;
+ * 通配符 * 只能作为完整的一段使用, 位于中间时匹配任意一段, 位于末尾时匹配剩余的任意一段或多段;
+ * JSON 序列化时只保存通配符权限代码集合, 反序列化设置通配符权限代码集合时重新编译字典树, 保存在 Sa-Token 会话中跨节点共享时同样可用
+ * @date: 2026-10-18
+ */
+public class PermissionSegmentTrie implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 6402153896213771408L;
+    /**
+     * 权限代码分段分隔符
+     */
+    public static final String SEPARATOR = ":";
+    /**
+     * 通配符
+     */
+    public static final String WILDCARD = "*";
+    /**
+     * 已编译的通配符权限代码集合
+     */
+    private List<String> grants = new ArrayList<>();
+    /**
+     * 字典树根节点
+     */
+    private Node root = new Node();
+
+    /**
+     * 将通配符权限代码集合编译为字典树
+     *
+     * @param grants 通配符权限代码集合
+     * @return 编译后的字典树对象
+     */
+    public static PermissionSegmentTrie compile(Collection<String> grants) {
+        PermissionSegmentTrie trie = new PermissionSegmentTrie();
+        trie.setGrants(grants);
+        return trie;
+    }
+
+    /**
+     * 获取已编译的通配符权限代码集合
+     *
+     * @return 通配符权限代码 List 集合
+     */
+    public List<String> getGrants() {
+        return grants;
+    }
+
+    /**
+     * 设置通配符权限代码集合, 并重新编译字典树
+     *
+     * @param grants 通配符权限代码集合
+     */
+    public void setGrants(Collection<String> grants) {
+        this.grants = new ArrayList<>();
+        this.root = new Node();
+        if (Objects.nonNull(grants)) {
+            grants.stream().filter(Objects::nonNull).forEach(grant -> {
+                this.grants.add(grant);
+                insert(grant);
+            });
+        }
+    }
+
+    /**
+     * 判断指定的权限代码是否被字典树中的某个通配符权限代码匹配
+     *
+     * @param permissionCode 需要判断的权限代码
+     * @return 匹配返回 true; 否则返回 false;
+     */
+    public boolean matches(String permissionCode) {
+        if (Objects.isNull(permissionCode)) {
+            return false;
+        }
+        return matches(root, permissionCode.split(SEPARATOR, -1), 0);
+    }
+
+    /**
+     * 插入一个权限代码
+     *
+     * @param grant 权限代码
+     */
+    private void insert(String grant) {
+        String[] segments = grant.split(SEPARATOR, -1);
+        Node node = root;
+        for (String segment : segments) {
+            if (WILDCARD.equals(segment)) {
+                if (Objects.isNull(node.wildcardChild)) {
+                    node.wildcardChild = new Node();
+                }
+                node = node.wildcardChild;
+            } else {
+                node = node.children.computeIfAbsent(segment, key -> new Node());
+            }
+        }
+        node.terminal = true;
+        // 末尾为通配符时, 该节点可匹配剩余的任意一段或多段
+        if (WILDCARD.equals(segments[segments.length - 1])) {
+            node.matchRemaining = true;
+        }
+    }
+
+    /**
+     * 从指定节点开始匹配权限代码的剩余分段
+     *
+     * @param node     当前节点
+     * @param segments 权限代码分段数组
+     * @param index    当前需要匹配的分段下标
+     * @return 匹配返回 true; 否则返回 false;
+     */
+    private boolean matches(Node node, String[] segments, int index) {
+        if (index == segments.length) {
+            return node.terminal;
+        }
+        Node literalChild = node.children.get(segments[index]);
+        if (Objects.nonNull(literalChild) && matches(literalChild, segments, index + 1)) {
+            return true;
+        }
+        Node wildcardChild = node.wildcardChild;
+        if (Objects.isNull(wildcardChild)) {
+            return false;
+        }
+        return wildcardChild.matchRemaining || matches(wildcardChild, segments, index + 1);
+    }
+
+    /**
+     * 字典树节点
+     */
+    private static class Node implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = -2384013427950681632L;
+        /**
+         * 普通分段子节点, key 为分段内容
+         */
+        private final Map<String, Node> children = new HashMap<>();
+        /**
+         * 通配符分段子节点
+         */
+        private Node wildcardChild;
+        /**
+         * 是否为某个权限代码的结束节点
+         */
+        private boolean terminal;
+        /**
+         * 是否匹配剩余的任意一段或多段
+         */
+        private boolean matchRemaining;
+    }
+}
@@ -57,5 +57,13 @@ public class PermissionsDTO extends BaseDTO implements Serializable {
      * 角色数据 ID List 集合
      */
     private List<Long> roleIds;
+    /**
+     * 需要批量判断的权限代码 List 集合
+     */
+    private List<String> codes;
+    /**
+     * 需要批量判断的权限代码前缀, 如 query:user, 判断等于该前缀或以 该前缀 + ":" 开头的所有有效权限代码
+     */
+    private String codePrefix;
 
 }
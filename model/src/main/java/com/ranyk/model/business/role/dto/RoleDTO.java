@@ -38,6 +38,10 @@ public class RoleDTO extends BaseDTO implements Serializable {
      * 角色状态: 1: 正常(默认); -1: 删除/停用;
      */
     private Integer status;
+    /**
+     * 父角色数据 ID; 修改角色时为 null 表示不修改父角色, 为 0 表示调整为顶级角色
+     */
+    private Long parentId;
 
     // 以下为额外属性
     /**
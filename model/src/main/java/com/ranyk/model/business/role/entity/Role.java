@@ -45,4 +45,9 @@ public class Role extends Base implements Serializable {
      */
     @Column(name = "role_status", nullable = false, columnDefinition = "TINYINT DEFAULT 1 COMMENT '角色状态: 1: 正常(默认); -1: 删除/停用;'")
     private Integer status;
+    /**
+     * 父角色数据 ID, 为 null 时表示顶级角色; 角色继承其所有上级角色的权限
+     */
+    @Column(name = "parent_id", columnDefinition = "BIGINT COMMENT '父角色数据 ID, 为空时表示顶级角色'")
+    private Long parentId;
 }
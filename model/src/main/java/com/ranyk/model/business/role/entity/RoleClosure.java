@@ -0,0 +1,48 @@
+package com.ranyk.model.business.role.entity;
+
+import com.ranyk.model.base.entity.Base;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * CLASS_NAME: RoleClosure.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 角色继承闭包表实体类封装对象, 保存每个角色与其自身及所有上级角色之间的关系, 查询角色继承的权限时无需递归
+ * @date: 2026-10-18
+ */
+@Getter
+@Setter
+@Entity
+@ToString
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "role_closure")
+public class RoleClosure extends Base implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 3518842047163925721L;
+    /**
+     * 上级角色数据 ID
+     */
+    @Column(name = "ancestor_id", nullable = false, columnDefinition = "BIGINT COMMENT '上级角色数据 ID'")
+    private Long ancestorId;
+    /**
+     * 下级角色数据 ID
+     */
+    @Column(name = "descendant_id", nullable = false, columnDefinition = "BIGINT COMMENT '下级角色数据 ID'")
+    private Long descendantId;
+    /**
+     * 上级角色到下级角色的层级距离, 角色与其自身的距离为 0
+     */
+    @Column(name = "depth", nullable = false, columnDefinition = "INT COMMENT '上级角色到下级角色的层级距离, 角色与其自身的距离为 0'")
+    private Integer depth;
+}
@@ -38,6 +38,10 @@ public class RoleVO implements Serializable {
      * 角色状态: 1: 正常(默认); -1: 删除/停用;
      */
     private byte status;
+    /**
+     * 父角色数据 ID, 为 null 时表示顶级角色
+     */
+    private Long parentId;
     /**
      * 角色备注
      */
@@ -0,0 +1,34 @@
+package com.ranyk.model.business.userinfo.dto;
+
+import lombok.*;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * CLASS_NAME: CurrentUserStampDTO.java
+ *
+ * @author ranyk
+ * @version V1.0
+ * @description: 带用户信息纪元戳的当前用户信息封装对象, 保存在账户会话中, 纪元与当前纪元一致时说明用户信息仍然有效
+ * @date: 2026-10-18
+ */
+@Data
+@Builder
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class CurrentUserStampDTO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 7731590284416305128L;
+    /**
+     * 加载用户信息前读取的用户信息纪元
+     */
+    private Long epoch;
+    /**
+     * 用户信息
+     */
+    private UserBaseDTO currentUser;
+}